@@ -0,0 +1,66 @@
+package benchmarks;
+
+import engine.Color;
+import engine.board.Board;
+import engine.board.Move;
+import engine.board.MoveTransition;
+import engine.board.Position;
+import engine.board.Board.BoardBuilder;
+import engine.board.Move.MoveFactory;
+import engine.board.MoveTransition.MoveStatus;
+import engine.board.Position.File;
+import engine.board.Position.Rank;
+import engine.pieces.Piece;
+import engine.pieces.Piece.PieceType;
+
+public enum BenchmarkPosition {
+    OPENING {
+        @Override
+        public Board createBoard() {
+            return replay("e2e4 c7c5 g1f3 d7d6 d2d4 c5d4 f3d4 g8f6 b1c3 a7a6");
+        }
+    },
+    MIDDLEGAME {
+        @Override
+        public Board createBoard() {
+            return replay("e2e4 e7e5 g1f3 b8c6 f1b5 a7a6 b5a4 g8f6 e1g1 f8e7 f1e1 b7b5 a4b3 d7d6 c2c3 e8g8 h2h3");
+        }
+    },
+    ENDGAME {
+        @Override
+        public Board createBoard() {
+            return new BoardBuilder()
+                    .setPiece(Piece.of(PieceType.KING, Position.of(File.E, Rank.FOURTH), Color.WHITE, true))
+                    .setPiece(Piece.of(PieceType.ROOK, Position.of(File.A, Rank.FIRST), Color.WHITE, true))
+                    .setPiece(Piece.of(PieceType.PAWN, Position.of(File.E, Rank.FIFTH), Color.WHITE, true))
+                    .setPiece(Piece.of(PieceType.PAWN, Position.of(File.G, Rank.THIRD), Color.WHITE, true))
+                    .setPiece(Piece.of(PieceType.KING, Position.of(File.D, Rank.SEVENTH), Color.BLACK, true))
+                    .setPiece(Piece.of(PieceType.ROOK, Position.of(File.H, Rank.EIGHTH), Color.BLACK, true))
+                    .setPiece(Piece.of(PieceType.PAWN, Position.of(File.F, Rank.SEVENTH), Color.BLACK, true))
+                    .setMoveMaker(Color.WHITE)
+                    .build();
+        }
+    };
+
+    public abstract Board createBoard();
+
+    private static Board replay(final String moves) {
+        Board board = Board.createStandardBoard();
+
+        for (final String move : moves.split(" ")) {
+            final Move legalMove = MoveFactory.create(board, parsePosition(move, 0), parsePosition(move, 2));
+            final MoveTransition transition = board.getCurrentPlayer().makeMove(legalMove);
+
+            if (transition.getMoveStatus().equals(MoveStatus.DONE) == false)
+                throw new IllegalStateException("Illegal benchmark move: " + move);
+
+            board = transition.getBoard();
+        }
+
+        return board;
+    }
+
+    private static Position parsePosition(final String move, final int offset) {
+        return Position.of(move.charAt(offset) - 'a', move.charAt(offset + 1) - '1');
+    }
+}
@@ -0,0 +1,52 @@
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import engine.board.Board;
+import engine.board.Fen;
+import engine.board.Board.BoardBuilder;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FenBenchmark {
+    @Param({ "OPENING", "MIDDLEGAME", "ENDGAME" })
+    private BenchmarkPosition position;
+
+    private Board board;
+    private String fen;
+    private StringBuilder buffer;
+
+    @Setup
+    public void setUp() {
+        this.board = this.position.createBoard();
+        this.fen = Fen.toFen(this.board);
+        this.buffer = new StringBuilder(90);
+    }
+
+    @Benchmark
+    public BoardBuilder createBuilder() {
+        return Fen.createBuilder(this.fen);
+    }
+
+    @Benchmark
+    public StringBuilder toFen() {
+        this.buffer.setLength(0);
+        return Fen.toFen(this.board, this.buffer);
+    }
+}
@@ -0,0 +1,94 @@
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import engine.Color;
+import engine.board.Board;
+import engine.board.Move;
+import engine.board.MoveTransition;
+import engine.board.San;
+import engine.board.Move.MoveFactory;
+import engine.player.Player;
+import engine.player.Player.BlackPlayer;
+import engine.player.Player.WhitePlayer;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MoveBenchmark {
+    @Param({ "OPENING", "MIDDLEGAME", "ENDGAME" })
+    private BenchmarkPosition position;
+
+    private Board board;
+    private Player player;
+    private Move move;
+    private String san;
+    private StringBuilder sanBuffer;
+
+    @Setup
+    public void setUp() {
+        this.board = this.position.createBoard();
+        this.player = this.board.getCurrentPlayer();
+
+        this.move = this.player.getLegalMoves().get(0);
+        this.san = San.toSan(this.board, this.move);
+        this.sanBuffer = new StringBuilder(8);
+    }
+
+    @Benchmark
+    public Board execute() {
+        return this.move.execute();
+    }
+
+    @Benchmark
+    public MoveTransition makeMove() {
+        return this.player.makeMove(this.move);
+    }
+
+    @Benchmark
+    public boolean isInCheckMate() {
+        return createPlayer().isInCheckMate();
+    }
+
+    @Benchmark
+    public boolean hasEscapeMoves() {
+        return createPlayer().hasEscapeMoves();
+    }
+
+    @Benchmark
+    public Move moveFactoryCreate() {
+        return MoveFactory.create(this.board, this.move.getCurrentPosition(), this.move.getDestinationPosition());
+    }
+
+    @Benchmark
+    public StringBuilder toSan() {
+        this.sanBuffer.setLength(0);
+        return San.toSan(this.board, this.move, this.sanBuffer);
+    }
+
+    @Benchmark
+    public Move parseSan() {
+        return San.parse(this.board, this.san);
+    }
+
+    private Player createPlayer() {
+        return this.board.getMoveMaker().equals(Color.WHITE)
+                ? new WhitePlayer(this.board)
+                : new BlackPlayer(this.board);
+    }
+}
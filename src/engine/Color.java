@@ -10,6 +10,11 @@ public enum Color {
             return 1;
         }
 
+        @Override
+        public Color getOpposite() {
+            return BLACK;
+        }
+
         @Override
         public Player choosePlayer(final Board board) {
             return board.getWhitePlayer();
@@ -21,6 +26,11 @@ public enum Color {
             return -1;
         }
 
+        @Override
+        public Color getOpposite() {
+            return WHITE;
+        }
+
         @Override
         public Player choosePlayer(final Board board) {
             return board.getBlackPlayer();
@@ -29,5 +39,7 @@ public enum Color {
 
     public abstract int getDirection();
 
+    public abstract Color getOpposite();
+
     public abstract Player choosePlayer(final Board board);
 }
@@ -0,0 +1,315 @@
+package engine.board;
+
+import engine.pieces.Piece.PieceType;
+
+public final class Attacks {
+    private static final int[] ROOK_FILE_DIRECTIONS = { 1, -1, 0, 0 };
+    private static final int[] ROOK_RANK_DIRECTIONS = { 0, 0, 1, -1 };
+    private static final int[] BISHOP_FILE_DIRECTIONS = { -1, 1, 1, -1 };
+    private static final int[] BISHOP_RANK_DIRECTIONS = { 1, 1, -1, -1 };
+    private static final int[] KNIGHT_FILE_OFFSETS = { -2, -2, -1, -1, 1, 1, 2, 2 };
+    private static final int[] KNIGHT_RANK_OFFSETS = { -1, 1, -2, 2, -2, 2, -1, 1 };
+    private static final int[] KING_FILE_OFFSETS = { 1, 0, -1, -1, -1, 0, 1, 1 };
+    private static final int[] KING_RANK_OFFSETS = { -1, -1, -1, 0, 1, 1, 1, 0 };
+    private static final int[] PAWN_FILE_OFFSETS = { -1, 1 };
+
+    private static final long[] ROOK_MAGICS = {
+            0x018001A010804000L, 0x0440004010002001L, 0x8100090040102000L, 0x460004082090C200L,
+            0x0A00082002001004L, 0x2100020100040008L, 0x0400010802009004L, 0x0500042081000C42L,
+            0x00A28010A1C00180L, 0x1120401000200048L, 0x5001004020010012L, 0x4041001000200900L,
+            0x0001001008000500L, 0x8040800401800200L, 0x0102000200010804L, 0x0840800100004080L,
+            0x9080014000200040L, 0x1000808040002008L, 0x0800110020004100L, 0x4010008008001080L,
+            0x0440808004000800L, 0x0C40080120100440L, 0x001204001810C112L, 0x4044020000640081L,
+            0x8000400080008020L, 0x8042810500400225L, 0x8041034100142000L, 0x0240080080100080L,
+            0x0008020040400400L, 0x0012000600241008L, 0x3410301400021108L, 0x1004008200040041L,
+            0x0080002000400048L, 0x1210042002404000L, 0x4644100088802000L, 0xB020800800801002L,
+            0x440C080180800400L, 0x1040800400800200L, 0x081008022400C110L, 0x0000008402000041L,
+            0x0004804002238010L, 0x0010104020004000L, 0x08A0010048210010L, 0x42020040210A0010L,
+            0x000800C500290010L, 0x0482000400028080L, 0x0000040200010100L, 0x0008108400420001L,
+            0x0810308000410100L, 0x1400200040100040L, 0x4020004290080240L, 0x0009000810002100L,
+            0x4008040208008080L, 0x020C000402008080L, 0x0160822108100400L, 0x80006984D1040200L,
+            0x0C00102080004101L, 0x1025088010400021L, 0x0006200880120142L, 0x1000041000200901L,
+            0x420A001008042002L, 0x8206009011340822L, 0x8020100810822104L, 0x4480104401002082L
+    };
+
+    private static final long[] BISHOP_MAGICS = {
+            0x0008200482034108L, 0x000802A08C010010L, 0x0004A40286011480L, 0x2004050204040000L,
+            0x2804042000044020L, 0x0000822020888020L, 0x00020A0220060520L, 0x0821040108821100L,
+            0x102804E068410900L, 0x8001040102021200L, 0x001004014A020040L, 0x0000040408891003L,
+            0x8206240420002000L, 0x00000A0262200000L, 0x00E1820202210464L, 0x4000211041242008L,
+            0x0006004004241400L, 0x006020080240A203L, 0x8408002C0220A200L, 0x2002048422020002L,
+            0x4814002082E00040L, 0x812180010284C000L, 0x0091200404020200L, 0x008A180920820804L,
+            0xD042100440100221L, 0x1088889020020082L, 0xD00C1000B1050120L, 0x0002002002008200L,
+            0x0008840090802000L, 0x4890002011C41000L, 0x0481007084040420L, 0x0004002018422220L,
+            0x400104C0C2204800L, 0x0402020220103020L, 0x0004040200010200L, 0x1000080800920A00L,
+            0x0840004100001100L, 0x8004010200054814L, 0x0110010064420200L, 0x2002404101620486L,
+            0x0E09140220004100L, 0x1008424210286020L, 0x40022A018A111000L, 0x0001084010488200L,
+            0x0C51101E00910200L, 0x0002680908080100L, 0x0404480E24000060L, 0x080800C110404200L,
+            0x0200420220200011L, 0x4482004108080400L, 0x8102002108080000L, 0x0040000020882080L,
+            0x0000000810240000L, 0x004030603800C000L, 0x0060201401385208L, 0x0020040102082012L,
+            0x0012004402011040L, 0x0814804404843002L, 0x0020800BA4024821L, 0x8010310081048800L,
+            0x0020810032120A00L, 0x0000023021134102L, 0x0000101001010424L, 0x00108200A8060040L
+    };
+
+    private static final SlidingTable ROOK_TABLE = new SlidingTable(
+            ROOK_FILE_DIRECTIONS,
+            ROOK_RANK_DIRECTIONS,
+            ROOK_MAGICS);
+
+    private static final SlidingTable BISHOP_TABLE = new SlidingTable(
+            BISHOP_FILE_DIRECTIONS,
+            BISHOP_RANK_DIRECTIONS,
+            BISHOP_MAGICS);
+
+    private static final long[] KNIGHT_ATTACKS = createLeaperAttacks(KNIGHT_FILE_OFFSETS, KNIGHT_RANK_OFFSETS);
+    private static final long[] KING_ATTACKS = createLeaperAttacks(KING_FILE_OFFSETS, KING_RANK_OFFSETS);
+    private static final long[][] PAWN_ATTACKS = {
+            createLeaperAttacks(PAWN_FILE_OFFSETS, new int[] { 1, 1 }),
+            createLeaperAttacks(PAWN_FILE_OFFSETS, new int[] { -1, -1 })
+    };
+
+    private static final long[][] BETWEEN = new long[Tile.NUM_TILES][Tile.NUM_TILES];
+    private static final long[][] LINE = new long[Tile.NUM_TILES][Tile.NUM_TILES];
+
+    static {
+        for (int first = 0; first < Tile.NUM_TILES; first++)
+            for (int second = 0; second < Tile.NUM_TILES; second++) {
+                if (first == second)
+                    continue;
+
+                final long firstBit = BitBoards.getSquareBit(first);
+                final long secondBit = BitBoards.getSquareBit(second);
+
+                if ((getRookAttacks(first, BitBoards.EMPTY) & secondBit) != 0) {
+                    BETWEEN[first][second] = getRookAttacks(first, secondBit) & getRookAttacks(second, firstBit);
+                    LINE[first][second] = getRookAttacks(first, BitBoards.EMPTY) & getRookAttacks(second, BitBoards.EMPTY)
+                            | firstBit
+                            | secondBit;
+                } else if ((getBishopAttacks(first, BitBoards.EMPTY) & secondBit) != 0) {
+                    BETWEEN[first][second] = getBishopAttacks(first, secondBit) & getBishopAttacks(second, firstBit);
+                    LINE[first][second] = getBishopAttacks(first, BitBoards.EMPTY)
+                            & getBishopAttacks(second, BitBoards.EMPTY)
+                            | firstBit
+                            | secondBit;
+                }
+            }
+    }
+
+    private Attacks() {
+        throw new RuntimeException("Attacks cannot be instantiated");
+    }
+
+    public static long getBetween(final int first, final int second) {
+        return BETWEEN[first][second];
+    }
+
+    public static long getLine(final int first, final int second) {
+        return LINE[first][second];
+    }
+
+    public static long getRookAttacks(final int square, final long occupancy) {
+        return ROOK_TABLE.getAttacks(square, occupancy);
+    }
+
+    public static long getBishopAttacks(final int square, final long occupancy) {
+        return BISHOP_TABLE.getAttacks(square, occupancy);
+    }
+
+    public static long getQueenAttacks(final int square, final long occupancy) {
+        return ROOK_TABLE.getAttacks(square, occupancy) | BISHOP_TABLE.getAttacks(square, occupancy);
+    }
+
+    public static long getKnightAttacks(final int square) {
+        return KNIGHT_ATTACKS[square];
+    }
+
+    public static long getKingAttacks(final int square) {
+        return KING_ATTACKS[square];
+    }
+
+    public static long getPawnAttacks(final int colorOrdinal, final int square) {
+        return PAWN_ATTACKS[colorOrdinal][square];
+    }
+
+    public static long getPawnPushes(final int colorOrdinal, final long pawns) {
+        return colorOrdinal == 0 ? pawns << 8 : pawns >>> 8;
+    }
+
+    public static long getPawnWestAttacks(final int colorOrdinal, final long pawns) {
+        return colorOrdinal == 0 ? (pawns & ~BitBoards.FILE_A) << 7 : (pawns & ~BitBoards.FILE_A) >>> 9;
+    }
+
+    public static long getPawnEastAttacks(final int colorOrdinal, final long pawns) {
+        return colorOrdinal == 0 ? (pawns & ~BitBoards.FILE_H) << 9 : (pawns & ~BitBoards.FILE_H) >>> 7;
+    }
+
+    public static boolean isSquareAttacked(
+            final BitBoards bitBoards,
+            final int square,
+            final int attackerColorOrdinal) {
+
+        final long occupancy = bitBoards.getOccupancy();
+        final int pieceCodeBase = BitBoards.getPieceCode(attackerColorOrdinal, 0);
+        final long queens = bitBoards.getPieces(pieceCodeBase + PieceType.QUEEN.ordinal());
+
+        return (getPawnAttacks(attackerColorOrdinal ^ 1, square)
+                & bitBoards.getPieces(pieceCodeBase + PieceType.PAWN.ordinal())) != 0
+                || (getKnightAttacks(square) & bitBoards.getPieces(pieceCodeBase + PieceType.KNIGHT.ordinal())) != 0
+                || (getKingAttacks(square) & bitBoards.getPieces(pieceCodeBase + PieceType.KING.ordinal())) != 0
+                || (getBishopAttacks(square, occupancy)
+                        & (bitBoards.getPieces(pieceCodeBase + PieceType.BISHOP.ordinal()) | queens)) != 0
+                || (getRookAttacks(square, occupancy)
+                        & (bitBoards.getPieces(pieceCodeBase + PieceType.ROOK.ordinal()) | queens)) != 0;
+    }
+
+    public static long getAttackMap(final BitBoards bitBoards, final int colorOrdinal) {
+        final long occupancy = bitBoards.getOccupancy();
+        final int pieceCodeBase = BitBoards.getPieceCode(colorOrdinal, 0);
+        final long pawns = bitBoards.getPieces(pieceCodeBase + PieceType.PAWN.ordinal());
+        final long knights = bitBoards.getPieces(pieceCodeBase + PieceType.KNIGHT.ordinal());
+        final long queens = bitBoards.getPieces(pieceCodeBase + PieceType.QUEEN.ordinal());
+        final long diagonalSliders = bitBoards.getPieces(pieceCodeBase + PieceType.BISHOP.ordinal()) | queens;
+        final long straightSliders = bitBoards.getPieces(pieceCodeBase + PieceType.ROOK.ordinal()) | queens;
+        final long kings = bitBoards.getPieces(pieceCodeBase + PieceType.KING.ordinal());
+
+        long attacks = getPawnWestAttacks(colorOrdinal, pawns) | getPawnEastAttacks(colorOrdinal, pawns);
+
+        for (long bits = knights; bits != 0; bits &= bits - 1)
+            attacks |= getKnightAttacks(Long.numberOfTrailingZeros(bits));
+
+        for (long bits = diagonalSliders; bits != 0; bits &= bits - 1)
+            attacks |= getBishopAttacks(Long.numberOfTrailingZeros(bits), occupancy);
+
+        for (long bits = straightSliders; bits != 0; bits &= bits - 1)
+            attacks |= getRookAttacks(Long.numberOfTrailingZeros(bits), occupancy);
+
+        for (long bits = kings; bits != 0; bits &= bits - 1)
+            attacks |= getKingAttacks(Long.numberOfTrailingZeros(bits));
+
+        return attacks;
+    }
+
+    public static long getAttackers(final BitBoards bitBoards, final int square, final long occupancy) {
+        final int pawn = PieceType.PAWN.ordinal();
+        final long bishops = bitBoards.getPieces(BitBoards.getPieceCode(0, PieceType.BISHOP.ordinal()))
+                | bitBoards.getPieces(BitBoards.getPieceCode(1, PieceType.BISHOP.ordinal()));
+        final long rooks = bitBoards.getPieces(BitBoards.getPieceCode(0, PieceType.ROOK.ordinal()))
+                | bitBoards.getPieces(BitBoards.getPieceCode(1, PieceType.ROOK.ordinal()));
+        final long queens = bitBoards.getPieces(BitBoards.getPieceCode(0, PieceType.QUEEN.ordinal()))
+                | bitBoards.getPieces(BitBoards.getPieceCode(1, PieceType.QUEEN.ordinal()));
+        final long knights = bitBoards.getPieces(BitBoards.getPieceCode(0, PieceType.KNIGHT.ordinal()))
+                | bitBoards.getPieces(BitBoards.getPieceCode(1, PieceType.KNIGHT.ordinal()));
+        final long kings = bitBoards.getPieces(BitBoards.getPieceCode(0, PieceType.KING.ordinal()))
+                | bitBoards.getPieces(BitBoards.getPieceCode(1, PieceType.KING.ordinal()));
+
+        return (getPawnAttacks(1, square) & bitBoards.getPieces(BitBoards.getPieceCode(0, pawn)))
+                | (getPawnAttacks(0, square) & bitBoards.getPieces(BitBoards.getPieceCode(1, pawn)))
+                | (getKnightAttacks(square) & knights)
+                | (getKingAttacks(square) & kings)
+                | (getBishopAttacks(square, occupancy) & (bishops | queens))
+                | (getRookAttacks(square, occupancy) & (rooks | queens));
+    }
+
+    private static long[] createLeaperAttacks(final int[] fileOffsets, final int[] rankOffsets) {
+        final long[] attacks = new long[Tile.NUM_TILES];
+
+        for (int square = 0; square < Tile.NUM_TILES; square++)
+            for (int i = 0; i < fileOffsets.length; i++) {
+                final int fileOrdinal = square % Position.NUM_FILES + fileOffsets[i];
+                final int rankOrdinal = square / Position.NUM_FILES + rankOffsets[i];
+
+                if (isOnBoard(fileOrdinal, rankOrdinal))
+                    attacks[square] |= BitBoards.getSquareBit(Position.getTileCoordinate(fileOrdinal, rankOrdinal));
+            }
+
+        return attacks;
+    }
+
+    private static long calculateRayAttacks(
+            final int square,
+            final long occupancy,
+            final int[] fileDirections,
+            final int[] rankDirections,
+            final boolean excludeEdges) {
+
+        long attacks = BitBoards.EMPTY;
+
+        for (int i = 0; i < fileDirections.length; i++) {
+            int fileOrdinal = square % Position.NUM_FILES + fileDirections[i];
+            int rankOrdinal = square / Position.NUM_FILES + rankDirections[i];
+
+            while (isOnBoard(fileOrdinal, rankOrdinal)) {
+                final boolean isEdge = isOnBoard(
+                        fileOrdinal + fileDirections[i],
+                        rankOrdinal + rankDirections[i]) == false;
+
+                if (excludeEdges && isEdge)
+                    break;
+
+                final long bit = BitBoards.getSquareBit(Position.getTileCoordinate(fileOrdinal, rankOrdinal));
+                attacks |= bit;
+
+                if ((occupancy & bit) != 0)
+                    break;
+
+                fileOrdinal += fileDirections[i];
+                rankOrdinal += rankDirections[i];
+            }
+        }
+
+        return attacks;
+    }
+
+    private static boolean isOnBoard(final int fileOrdinal, final int rankOrdinal) {
+        return fileOrdinal >= 0 && fileOrdinal < Position.NUM_FILES
+                && rankOrdinal >= 0 && rankOrdinal < Position.NUM_RANKS;
+    }
+
+    private static final class SlidingTable {
+        private final long[] masks = new long[Tile.NUM_TILES];
+        private final long[] magics;
+        private final int[] shifts = new int[Tile.NUM_TILES];
+        private final int[] offsets = new int[Tile.NUM_TILES];
+        private final long[] attacks;
+
+        SlidingTable(final int[] fileDirections, final int[] rankDirections, final long[] magics) {
+            this.magics = magics;
+
+            int tableSize = 0;
+
+            for (int square = 0; square < Tile.NUM_TILES; square++) {
+                this.masks[square] = calculateRayAttacks(square, BitBoards.EMPTY, fileDirections, rankDirections, true);
+                this.shifts[square] = Long.SIZE - Long.bitCount(this.masks[square]);
+                this.offsets[square] = tableSize;
+
+                tableSize += 1 << Long.bitCount(this.masks[square]);
+            }
+
+            this.attacks = new long[tableSize];
+
+            for (int square = 0; square < Tile.NUM_TILES; square++) {
+                final long mask = this.masks[square];
+                long subset = BitBoards.EMPTY;
+
+                do {
+                    this.attacks[this.offsets[square] + getIndex(square, subset)] = calculateRayAttacks(
+                            square,
+                            subset,
+                            fileDirections,
+                            rankDirections,
+                            false);
+
+                    subset = (subset - mask) & mask;
+                } while (subset != BitBoards.EMPTY);
+            }
+        }
+
+        long getAttacks(final int square, final long occupancy) {
+            return this.attacks[this.offsets[square] + getIndex(square, occupancy & this.masks[square])];
+        }
+
+        private int getIndex(final int square, final long relevantOccupancy) {
+            return (int) ((relevantOccupancy * this.magics[square]) >>> this.shifts[square]);
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package engine.board;
+
+import java.util.Arrays;
+
+import engine.Color;
+import engine.pieces.Piece.PieceType;
+
+public final class BitBoards {
+    public static final int NUM_PIECE_TYPES = 6;
+    public static final int NUM_PIECE_CODES = 2 * NUM_PIECE_TYPES;
+    public static final int NO_PIECE = -1;
+
+    public static final long EMPTY = 0L;
+    public static final long FILE_A = 0x0101010101010101L;
+    public static final long FILE_B = FILE_A << 1;
+    public static final long FILE_G = FILE_A << 6;
+    public static final long FILE_H = FILE_A << 7;
+    public static final long RANK_1 = 0xFFL;
+    public static final long RANK_2 = RANK_1 << 8;
+    public static final long RANK_3 = RANK_1 << 16;
+    public static final long RANK_4 = RANK_1 << 24;
+    public static final long RANK_5 = RANK_1 << 32;
+    public static final long RANK_6 = RANK_1 << 40;
+    public static final long RANK_7 = RANK_1 << 48;
+    public static final long RANK_8 = RANK_1 << 56;
+
+    private final long[] pieces;
+    private final long[] colors;
+    private final int[] mailbox;
+    private long occupancy;
+    private int middlegameScore;
+    private int endgameScore;
+    private int phase;
+
+    public BitBoards() {
+        this.pieces = new long[NUM_PIECE_CODES];
+        this.colors = new long[2];
+        this.mailbox = new int[Tile.NUM_TILES];
+        this.occupancy = EMPTY;
+
+        Arrays.fill(this.mailbox, NO_PIECE);
+    }
+
+    public BitBoards(final BitBoards other) {
+        this.pieces = other.pieces.clone();
+        this.colors = other.colors.clone();
+        this.mailbox = other.mailbox.clone();
+        this.occupancy = other.occupancy;
+        this.middlegameScore = other.middlegameScore;
+        this.endgameScore = other.endgameScore;
+        this.phase = other.phase;
+    }
+
+    public static BitBoards of(final int[] squares, final int[] pieceCodes, final int count) {
+        final BitBoards bitBoards = new BitBoards();
+
+        for (int i = 0; i < count; i++)
+            bitBoards.put(squares[i], pieceCodes[i]);
+
+        return bitBoards;
+    }
+
+    public static long getSquareBit(final int square) {
+        return 1L << square;
+    }
+
+    public static int getPieceCode(final int colorOrdinal, final int typeOrdinal) {
+        return colorOrdinal * NUM_PIECE_TYPES + typeOrdinal;
+    }
+
+    public static int getPieceCode(final Color color, final PieceType type) {
+        return getPieceCode(color.ordinal(), type.ordinal());
+    }
+
+    public static int getColorOrdinal(final int pieceCode) {
+        return pieceCode / NUM_PIECE_TYPES;
+    }
+
+    public static int getTypeOrdinal(final int pieceCode) {
+        return pieceCode % NUM_PIECE_TYPES;
+    }
+
+    void put(final int square, final int pieceCode) {
+        final long bit = getSquareBit(square);
+
+        this.pieces[pieceCode] |= bit;
+        this.colors[getColorOrdinal(pieceCode)] |= bit;
+        this.occupancy |= bit;
+        this.mailbox[square] = pieceCode;
+        this.middlegameScore += PieceSquareTables.getMiddlegameValue(pieceCode, square);
+        this.endgameScore += PieceSquareTables.getEndgameValue(pieceCode, square);
+        this.phase += PieceSquareTables.getPhaseValue(pieceCode);
+    }
+
+    void remove(final int square) {
+        final int pieceCode = this.mailbox[square];
+
+        if (pieceCode == NO_PIECE)
+            return;
+
+        final long bit = getSquareBit(square);
+
+        this.pieces[pieceCode] &= ~bit;
+        this.colors[getColorOrdinal(pieceCode)] &= ~bit;
+        this.occupancy &= ~bit;
+        this.mailbox[square] = NO_PIECE;
+        this.middlegameScore -= PieceSquareTables.getMiddlegameValue(pieceCode, square);
+        this.endgameScore -= PieceSquareTables.getEndgameValue(pieceCode, square);
+        this.phase -= PieceSquareTables.getPhaseValue(pieceCode);
+    }
+
+    public long getPieces(final int pieceCode) {
+        return this.pieces[pieceCode];
+    }
+
+    public long getPieces(final Color color, final PieceType type) {
+        return this.pieces[getPieceCode(color, type)];
+    }
+
+    public long getOccupancy(final int colorOrdinal) {
+        return this.colors[colorOrdinal];
+    }
+
+    public long getOccupancy(final Color color) {
+        return this.colors[color.ordinal()];
+    }
+
+    public long getOccupancy() {
+        return this.occupancy;
+    }
+
+    public int getPieceCode(final int square) {
+        return this.mailbox[square];
+    }
+
+    public boolean isOccupied(final int square) {
+        return (this.occupancy & getSquareBit(square)) != 0;
+    }
+
+    public int getMiddlegameScore() {
+        return this.middlegameScore;
+    }
+
+    public int getEndgameScore() {
+        return this.endgameScore;
+    }
+
+    public int getPhase() {
+        return this.phase;
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(this.pieces);
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        if (this == other)
+            return true;
+
+        if (other instanceof BitBoards == false)
+            return false;
+
+        return Arrays.equals(this.pieces, ((BitBoards) other).pieces);
+    }
+}
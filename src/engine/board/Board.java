@@ -1,7 +1,6 @@
 package engine.board;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -11,124 +10,226 @@ import java.util.Set;
 import engine.Color;
 import engine.board.Position.File;
 import engine.board.Position.Rank;
-import engine.pieces.Bishop;
-import engine.pieces.King;
-import engine.pieces.Knight;
 import engine.pieces.Pawn;
 import engine.pieces.Piece;
-import engine.pieces.Queen;
-import engine.pieces.Rook;
+import engine.pieces.Piece.PieceType;
 import engine.player.Player;
 import engine.player.Player.BlackPlayer;
 import engine.player.Player.WhitePlayer;
 
 public class Board {
-    private final List<Tile> gameBoard;
+    private final BitBoards bitBoards;
+    private final Piece[] pieceBoard;
+    private final Pawn enPassantPawn;
+    private final int castlingRights;
+    private final long zobristKey;
+    private final int halfMoveClock;
+    private final int fullMoveNumber;
 
     private final List<Piece> whitePieces;
     private final List<Piece> blackPieces;
 
-    private final Player whitePlayer;
-    private final Player blackPlayer;
-    private final Player currentPlayer;
+    private final Color moveMaker;
+
+    private volatile Player whitePlayer;
+    private volatile Player blackPlayer;
+    private volatile MoveIndex moveIndex;
+    private volatile long whiteAttackMap;
+    private volatile long blackAttackMap;
 
     private Board(final BoardBuilder builder) {
-        this.gameBoard = createBoard(builder);
-        this.whitePieces = calculateActivePieces(this.gameBoard, Color.WHITE);
-        this.blackPieces = calculateActivePieces(this.gameBoard, Color.BLACK);
+        this.bitBoards = new BitBoards();
+        this.pieceBoard = createBoard(builder, this.bitBoards);
+        this.enPassantPawn = builder.enPassantPawn;
+        this.castlingRights = calculateCastlingRights(this.pieceBoard);
+        this.whitePieces = calculateActivePieces(this.pieceBoard, this.bitBoards, Color.WHITE);
+        this.blackPieces = calculateActivePieces(this.pieceBoard, this.bitBoards, Color.BLACK);
+        this.moveMaker = builder.nextMoveMaker;
+        this.halfMoveClock = builder.halfMoveClock;
+        this.fullMoveNumber = builder.fullMoveNumber;
+        this.zobristKey = builder.hasZobristKey
+                ? builder.zobristKey
+                : Zobrist.calculateKey(
+                        this.bitBoards,
+                        this.moveMaker.ordinal(),
+                        this.castlingRights,
+                        this.getEnPassantSquare());
+    }
+
+    private static Piece[] createBoard(final BoardBuilder builder, final BitBoards bitBoards) {
+        final Piece[] pieces = new Piece[Tile.NUM_TILES];
 
-        final Set<Move> whiteLegalMoves = calculateLegalMoves(this.whitePieces);
-        final Set<Move> blackLegalMoves = calculateLegalMoves(this.blackPieces);
+        for (final Piece piece : builder.boardConfig.values()) {
+            final int tileCoordinate = piece.getPosition().getTileCoordinate();
 
-        this.whitePlayer = new WhitePlayer(this, whiteLegalMoves, blackLegalMoves);
-        this.blackPlayer = new BlackPlayer(this, blackLegalMoves, whiteLegalMoves);
-        this.currentPlayer = builder.nextMoveMaker.choosePlayer(this);
+            pieces[tileCoordinate] = piece;
+            bitBoards.put(tileCoordinate, BitBoards.getPieceCode(piece.getColor(), piece.getPieceType()));
+        }
+
+        return pieces;
     }
 
-    private static List<Tile> createBoard(final BoardBuilder builder) {
-        final Tile[] tiles = new Tile[Tile.NUM_TILES];
-        int i = 0;
+    private static List<Piece> calculateActivePieces(
+            final Piece[] pieceBoard,
+            final BitBoards bitBoards,
+            final Color color) {
 
-        for (int rankOrdinal = Rank.FIRST.ordinal(); rankOrdinal <= Rank.EIGHTH.ordinal(); rankOrdinal++)
-            for (int fileOrdinal = File.A.ordinal(); fileOrdinal <= File.H.ordinal(); fileOrdinal++) {
-                Position position = new Position(fileOrdinal, rankOrdinal);
-                Piece piece = builder.boardConfig.get(position);
+        final long occupancy = bitBoards.getOccupancy(color);
+        final List<Piece> activePieces = new ArrayList<>(Long.bitCount(occupancy));
 
-                tiles[i++] = Tile.createTile(position, piece);
-            }
+        for (long bits = occupancy; bits != 0; bits &= bits - 1)
+            activePieces.add(pieceBoard[Long.numberOfTrailingZeros(bits)]);
 
-        return Arrays.asList(tiles);
+        return activePieces;
     }
 
-    private static List<Piece> calculateActivePieces(final List<Tile> gameBoard, final Color color) {
-        final List<Piece> activePieces = new ArrayList<>();
+    private static int calculateCastlingRights(final Piece[] pieceBoard) {
+        int castlingRights = CastlingRights.NONE;
+
+        if (isUnmoved(pieceBoard, CastlingRights.WHITE_KING_SQUARE, PieceType.KING, Color.WHITE)) {
+            if (isUnmoved(pieceBoard, CastlingRights.WHITE_KING_SQUARE + 3, PieceType.ROOK, Color.WHITE))
+                castlingRights |= CastlingRights.WHITE_SHORT;
 
-        for (final Tile tile : gameBoard) {
-            if (tile.isOccupied() == false)
-                continue;
+            if (isUnmoved(pieceBoard, CastlingRights.WHITE_KING_SQUARE - 4, PieceType.ROOK, Color.WHITE))
+                castlingRights |= CastlingRights.WHITE_LONG;
+        }
 
-            final Piece piece = tile.getPiece();
+        if (isUnmoved(pieceBoard, CastlingRights.BLACK_KING_SQUARE, PieceType.KING, Color.BLACK)) {
+            if (isUnmoved(pieceBoard, CastlingRights.BLACK_KING_SQUARE + 3, PieceType.ROOK, Color.BLACK))
+                castlingRights |= CastlingRights.BLACK_SHORT;
 
-            if (piece.getColor().equals(color))
-                activePieces.add(piece);
+            if (isUnmoved(pieceBoard, CastlingRights.BLACK_KING_SQUARE - 4, PieceType.ROOK, Color.BLACK))
+                castlingRights |= CastlingRights.BLACK_LONG;
         }
 
-        return activePieces;
+        return castlingRights;
+    }
+
+    private static boolean isUnmoved(
+            final Piece[] pieceBoard,
+            final int tileCoordinate,
+            final PieceType type,
+            final Color color) {
+
+        final Piece piece = pieceBoard[tileCoordinate];
+
+        return piece != null
+                && piece.isFirstMove()
+                && piece.getPieceType().equals(type)
+                && piece.getColor().equals(color);
     }
 
     public static Board createStandardBoard() {
         BoardBuilder builder = new BoardBuilder();
 
-        builder.setPiece(new Rook(new Position(File.A, Rank.FIRST), Color.WHITE, false))
-                .setPiece(new Knight(new Position(File.B, Rank.FIRST), Color.WHITE, false))
-                .setPiece(new Bishop(new Position(File.C, Rank.FIRST), Color.WHITE, false))
-                .setPiece(new Queen(new Position(File.D, Rank.FIRST), Color.WHITE, false))
-                .setPiece(new King(new Position(File.E, Rank.FIRST), Color.WHITE, false))
-                .setPiece(new Bishop(new Position(File.F, Rank.FIRST), Color.WHITE, false))
-                .setPiece(new Knight(new Position(File.G, Rank.FIRST), Color.WHITE, false))
-                .setPiece(new Rook(new Position(File.H, Rank.FIRST), Color.WHITE, false))
-                .setPiece(new Pawn(new Position(File.A, Rank.SECOND), Color.WHITE, false))
-                .setPiece(new Pawn(new Position(File.B, Rank.SECOND), Color.WHITE, false))
-                .setPiece(new Pawn(new Position(File.C, Rank.SECOND), Color.WHITE, false))
-                .setPiece(new Pawn(new Position(File.D, Rank.SECOND), Color.WHITE, false))
-                .setPiece(new Pawn(new Position(File.E, Rank.SECOND), Color.WHITE, false))
-                .setPiece(new Pawn(new Position(File.F, Rank.SECOND), Color.WHITE, false))
-                .setPiece(new Pawn(new Position(File.G, Rank.SECOND), Color.WHITE, false))
-                .setPiece(new Pawn(new Position(File.H, Rank.SECOND), Color.WHITE, false));
-
-        builder.setPiece(new Rook(new Position(File.A, Rank.EIGHTH), Color.BLACK, false))
-                .setPiece(new Knight(new Position(File.B, Rank.EIGHTH), Color.BLACK, false))
-                .setPiece(new Bishop(new Position(File.C, Rank.EIGHTH), Color.BLACK, false))
-                .setPiece(new Queen(new Position(File.D, Rank.EIGHTH), Color.BLACK, false))
-                .setPiece(new King(new Position(File.E, Rank.EIGHTH), Color.BLACK, false))
-                .setPiece(new Bishop(new Position(File.F, Rank.EIGHTH), Color.BLACK, false))
-                .setPiece(new Knight(new Position(File.G, Rank.EIGHTH), Color.BLACK, false))
-                .setPiece(new Rook(new Position(File.H, Rank.EIGHTH), Color.BLACK, false))
-                .setPiece(new Pawn(new Position(File.A, Rank.SEVENTH), Color.BLACK, false))
-                .setPiece(new Pawn(new Position(File.B, Rank.SEVENTH), Color.BLACK, false))
-                .setPiece(new Pawn(new Position(File.C, Rank.SEVENTH), Color.BLACK, false))
-                .setPiece(new Pawn(new Position(File.D, Rank.SEVENTH), Color.BLACK, false))
-                .setPiece(new Pawn(new Position(File.E, Rank.SEVENTH), Color.BLACK, false))
-                .setPiece(new Pawn(new Position(File.F, Rank.SEVENTH), Color.BLACK, false))
-                .setPiece(new Pawn(new Position(File.G, Rank.SEVENTH), Color.BLACK, false))
-                .setPiece(new Pawn(new Position(File.H, Rank.SEVENTH), Color.BLACK, false));
+        builder.setPiece(Piece.of(PieceType.ROOK, Position.of(File.A, Rank.FIRST), Color.WHITE, false))
+                .setPiece(Piece.of(PieceType.KNIGHT, Position.of(File.B, Rank.FIRST), Color.WHITE, false))
+                .setPiece(Piece.of(PieceType.BISHOP, Position.of(File.C, Rank.FIRST), Color.WHITE, false))
+                .setPiece(Piece.of(PieceType.QUEEN, Position.of(File.D, Rank.FIRST), Color.WHITE, false))
+                .setPiece(Piece.of(PieceType.KING, Position.of(File.E, Rank.FIRST), Color.WHITE, false))
+                .setPiece(Piece.of(PieceType.BISHOP, Position.of(File.F, Rank.FIRST), Color.WHITE, false))
+                .setPiece(Piece.of(PieceType.KNIGHT, Position.of(File.G, Rank.FIRST), Color.WHITE, false))
+                .setPiece(Piece.of(PieceType.ROOK, Position.of(File.H, Rank.FIRST), Color.WHITE, false))
+                .setPiece(Piece.of(PieceType.PAWN, Position.of(File.A, Rank.SECOND), Color.WHITE, false))
+                .setPiece(Piece.of(PieceType.PAWN, Position.of(File.B, Rank.SECOND), Color.WHITE, false))
+                .setPiece(Piece.of(PieceType.PAWN, Position.of(File.C, Rank.SECOND), Color.WHITE, false))
+                .setPiece(Piece.of(PieceType.PAWN, Position.of(File.D, Rank.SECOND), Color.WHITE, false))
+                .setPiece(Piece.of(PieceType.PAWN, Position.of(File.E, Rank.SECOND), Color.WHITE, false))
+                .setPiece(Piece.of(PieceType.PAWN, Position.of(File.F, Rank.SECOND), Color.WHITE, false))
+                .setPiece(Piece.of(PieceType.PAWN, Position.of(File.G, Rank.SECOND), Color.WHITE, false))
+                .setPiece(Piece.of(PieceType.PAWN, Position.of(File.H, Rank.SECOND), Color.WHITE, false));
+
+        builder.setPiece(Piece.of(PieceType.ROOK, Position.of(File.A, Rank.EIGHTH), Color.BLACK, false))
+                .setPiece(Piece.of(PieceType.KNIGHT, Position.of(File.B, Rank.EIGHTH), Color.BLACK, false))
+                .setPiece(Piece.of(PieceType.BISHOP, Position.of(File.C, Rank.EIGHTH), Color.BLACK, false))
+                .setPiece(Piece.of(PieceType.QUEEN, Position.of(File.D, Rank.EIGHTH), Color.BLACK, false))
+                .setPiece(Piece.of(PieceType.KING, Position.of(File.E, Rank.EIGHTH), Color.BLACK, false))
+                .setPiece(Piece.of(PieceType.BISHOP, Position.of(File.F, Rank.EIGHTH), Color.BLACK, false))
+                .setPiece(Piece.of(PieceType.KNIGHT, Position.of(File.G, Rank.EIGHTH), Color.BLACK, false))
+                .setPiece(Piece.of(PieceType.ROOK, Position.of(File.H, Rank.EIGHTH), Color.BLACK, false))
+                .setPiece(Piece.of(PieceType.PAWN, Position.of(File.A, Rank.SEVENTH), Color.BLACK, false))
+                .setPiece(Piece.of(PieceType.PAWN, Position.of(File.B, Rank.SEVENTH), Color.BLACK, false))
+                .setPiece(Piece.of(PieceType.PAWN, Position.of(File.C, Rank.SEVENTH), Color.BLACK, false))
+                .setPiece(Piece.of(PieceType.PAWN, Position.of(File.D, Rank.SEVENTH), Color.BLACK, false))
+                .setPiece(Piece.of(PieceType.PAWN, Position.of(File.E, Rank.SEVENTH), Color.BLACK, false))
+                .setPiece(Piece.of(PieceType.PAWN, Position.of(File.F, Rank.SEVENTH), Color.BLACK, false))
+                .setPiece(Piece.of(PieceType.PAWN, Position.of(File.G, Rank.SEVENTH), Color.BLACK, false))
+                .setPiece(Piece.of(PieceType.PAWN, Position.of(File.H, Rank.SEVENTH), Color.BLACK, false));
 
         builder.setMoveMaker(Color.WHITE);
 
         return builder.build();
     }
 
-    private Set<Move> calculateLegalMoves(final List<Piece> pieces) {
-        final Set<Move> legalMoves = new HashSet<>();
+    private synchronized Player calculateWhitePlayer() {
+        if (this.whitePlayer == null)
+            this.whitePlayer = new WhitePlayer(this);
 
-        for (final Piece piece : pieces)
-            legalMoves.addAll(piece.getLegalMoves(this));
+        return this.whitePlayer;
+    }
 
-        return legalMoves;
+    private synchronized Player calculateBlackPlayer() {
+        if (this.blackPlayer == null)
+            this.blackPlayer = new BlackPlayer(this);
+
+        return this.blackPlayer;
+    }
+
+    private synchronized MoveIndex calculateMoveIndex() {
+        if (this.moveIndex == null)
+            this.moveIndex = new MoveIndex(getCurrentPlayer());
+
+        return this.moveIndex;
+    }
+
+    public void generateMoves(final MoveList moves) {
+        MoveGenerator.generateMoves(
+                this.bitBoards,
+                this.moveMaker.ordinal(),
+                this.castlingRights,
+                this.getEnPassantSquare(),
+                moves);
+    }
+
+    public void generateLegalMoves(final MoveList moves) {
+        generateLegalMoves(this.moveMaker, moves);
+    }
+
+    public void generateLegalMoves(final Color color, final MoveList moves) {
+        MoveGenerator.generateLegalMoves(
+                this.bitBoards,
+                color.ordinal(),
+                this.castlingRights,
+                color.equals(this.moveMaker) ? this.getEnPassantSquare() : -1,
+                moves);
     }
 
     public Tile getTile(final Position tilePosition) {
-        return this.gameBoard.get(tilePosition.getTileCoordinate());
+        return Tile.createTile(tilePosition, this.pieceBoard[tilePosition.getTileCoordinate()]);
+    }
+
+    public Piece getPiece(final int tileCoordinate) {
+        return this.pieceBoard[tileCoordinate];
+    }
+
+    public BitBoards getBitBoards() {
+        return this.bitBoards;
+    }
+
+    public Pawn getEnPassantPawn() {
+        return this.enPassantPawn;
+    }
+
+    public int getEnPassantSquare() {
+        if (this.enPassantPawn == null)
+            return -1;
+
+        return this.enPassantPawn.getPosition().getTileCoordinate()
+                - Position.NUM_FILES * this.enPassantPawn.getColor().getDirection();
+    }
+
+    public int getCastlingRights() {
+        return this.castlingRights;
     }
 
     public List<Piece> getWhitePieces() {
@@ -139,25 +240,85 @@ public class Board {
         return this.blackPieces;
     }
 
+    public long getZobristKey() {
+        return this.zobristKey;
+    }
+
+    public Color getMoveMaker() {
+        return this.moveMaker;
+    }
+
+    public int getHalfMoveClock() {
+        return this.halfMoveClock;
+    }
+
+    public int getFullMoveNumber() {
+        return this.fullMoveNumber;
+    }
+
     public Player getWhitePlayer() {
-        return this.whitePlayer;
+        final Player player = this.whitePlayer;
+
+        return player != null ? player : calculateWhitePlayer();
     }
 
     public Player getBlackPlayer() {
-        return this.blackPlayer;
+        final Player player = this.blackPlayer;
+
+        return player != null ? player : calculateBlackPlayer();
+    }
+
+    public Move getLegalMove(final Position source, final Position destination) {
+        if (source.isValid() == false || destination.isValid() == false)
+            return Move.NULL_MOVE;
+
+        return getMoveIndex().getMove(source.getTileCoordinate(), destination.getTileCoordinate());
+    }
+
+    public long getLegalDestinations(final Position source) {
+        return source.isValid() ? getMoveIndex().getDestinations(source.getTileCoordinate()) : BitBoards.EMPTY;
+    }
+
+    private MoveIndex getMoveIndex() {
+        final MoveIndex index = this.moveIndex;
+
+        return index != null ? index : calculateMoveIndex();
+    }
+
+    public int getKingSquare(final Color color) {
+        return Long.numberOfTrailingZeros(this.bitBoards.getPieces(color, PieceType.KING));
+    }
+
+    public boolean isSquareAttacked(final int square, final Color attackerColor) {
+        return Attacks.isSquareAttacked(this.bitBoards, square, attackerColor.ordinal());
+    }
+
+    public long getAttackMap(final Color color) {
+        long attackMap = color.equals(Color.WHITE) ? this.whiteAttackMap : this.blackAttackMap;
+
+        if (attackMap == BitBoards.EMPTY) {
+            attackMap = Attacks.getAttackMap(this.bitBoards, color.ordinal());
+
+            if (color.equals(Color.WHITE))
+                this.whiteAttackMap = attackMap;
+            else
+                this.blackAttackMap = attackMap;
+        }
+
+        return attackMap;
     }
 
     public Player getCurrentPlayer() {
-        return this.currentPlayer;
+        return this.moveMaker.choosePlayer(this);
     }
 
     public Set<Move> getAllLegalMoves() {
         final Set<Move> legalMoves = new HashSet<>();
 
-        for (final Move move : this.whitePlayer.getLegalMoves())
+        for (final Move move : this.getWhitePlayer().getLegalMoves())
             legalMoves.add(move);
 
-        for (final Move move : this.blackPlayer.getLegalMoves())
+        for (final Move move : this.getBlackPlayer().getLegalMoves())
             legalMoves.add(move);
 
         return legalMoves;
@@ -179,15 +340,36 @@ public class Board {
         }
     }
 
+    @Override
+    public int hashCode() {
+        return (int) (this.zobristKey ^ (this.zobristKey >>> 32));
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        if (this == other)
+            return true;
+
+        if (other instanceof Board == false)
+            return false;
+
+        final Board otherBoard = (Board) other;
+
+        return this.zobristKey == otherBoard.zobristKey
+                && this.moveMaker.equals(otherBoard.moveMaker)
+                && this.castlingRights == otherBoard.castlingRights
+                && this.getEnPassantSquare() == otherBoard.getEnPassantSquare()
+                && this.bitBoards.equals(otherBoard.bitBoards);
+    }
+
     @Override
     public String toString() {
         final StringBuilder sb = new StringBuilder();
 
         for (int rankOrdinal = Rank.EIGHTH.ordinal(); rankOrdinal >= Rank.FIRST.ordinal(); rankOrdinal--) {
             for (int fileOrdinal = File.A.ordinal(); fileOrdinal <= File.H.ordinal(); fileOrdinal++) {
-                final String tileString = this.gameBoard
-                        .get(Position.getTileCoordinate(fileOrdinal, rankOrdinal))
-                        .toString();
+                final Piece piece = this.pieceBoard[Position.getTileCoordinate(fileOrdinal, rankOrdinal)];
+                final String tileString = piece != null ? piece.toString() : "-";
 
                 sb.append(' ' + tileString + ' ');
             }
@@ -202,6 +384,10 @@ public class Board {
         Map<Position, Piece> boardConfig;
         Color nextMoveMaker;
         Pawn enPassantPawn;
+        long zobristKey;
+        boolean hasZobristKey;
+        int halfMoveClock;
+        int fullMoveNumber = 1;
 
         public BoardBuilder() {
             boardConfig = new HashMap<Position, Piece>();
@@ -221,6 +407,22 @@ public class Board {
             this.enPassantPawn = movedPawn;
         }
 
+        public BoardBuilder setZobristKey(final long zobristKey) {
+            this.zobristKey = zobristKey;
+            this.hasZobristKey = true;
+            return this;
+        }
+
+        public BoardBuilder setHalfMoveClock(final int halfMoveClock) {
+            this.halfMoveClock = halfMoveClock;
+            return this;
+        }
+
+        public BoardBuilder setFullMoveNumber(final int fullMoveNumber) {
+            this.fullMoveNumber = fullMoveNumber;
+            return this;
+        }
+
         public Board build() {
             return new Board(this);
         }
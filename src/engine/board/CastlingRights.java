@@ -0,0 +1,48 @@
+package engine.board;
+
+import java.util.Arrays;
+
+public final class CastlingRights {
+    public static final int NONE = 0;
+    public static final int WHITE_SHORT = 1;
+    public static final int WHITE_LONG = 2;
+    public static final int BLACK_SHORT = 4;
+    public static final int BLACK_LONG = 8;
+    public static final int ALL = WHITE_SHORT | WHITE_LONG | BLACK_SHORT | BLACK_LONG;
+
+    public static final int WHITE_KING_SQUARE = 4;
+    public static final int BLACK_KING_SQUARE = 60;
+
+    private static final int[] REMAINING_RIGHTS = createRemainingRights();
+
+    private CastlingRights() {
+        throw new RuntimeException("CastlingRights cannot be instantiated");
+    }
+
+    private static int[] createRemainingRights() {
+        final int[] remainingRights = new int[Tile.NUM_TILES];
+
+        Arrays.fill(remainingRights, ALL);
+
+        remainingRights[WHITE_KING_SQUARE] = ALL & ~(WHITE_SHORT | WHITE_LONG);
+        remainingRights[WHITE_KING_SQUARE + 3] = ALL & ~WHITE_SHORT;
+        remainingRights[WHITE_KING_SQUARE - 4] = ALL & ~WHITE_LONG;
+        remainingRights[BLACK_KING_SQUARE] = ALL & ~(BLACK_SHORT | BLACK_LONG);
+        remainingRights[BLACK_KING_SQUARE + 3] = ALL & ~BLACK_SHORT;
+        remainingRights[BLACK_KING_SQUARE - 4] = ALL & ~BLACK_LONG;
+
+        return remainingRights;
+    }
+
+    public static int update(final int castlingRights, final int source, final int destination) {
+        return castlingRights & REMAINING_RIGHTS[source] & REMAINING_RIGHTS[destination];
+    }
+
+    public static int getShortRight(final int colorOrdinal) {
+        return colorOrdinal == 0 ? WHITE_SHORT : BLACK_SHORT;
+    }
+
+    public static int getLongRight(final int colorOrdinal) {
+        return colorOrdinal == 0 ? WHITE_LONG : BLACK_LONG;
+    }
+}
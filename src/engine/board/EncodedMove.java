@@ -0,0 +1,157 @@
+package engine.board;
+
+import engine.board.Move.AttackMove;
+import engine.board.Move.LongCastleMove;
+import engine.board.Move.NormalMove;
+import engine.board.Move.PawnAttackMove;
+import engine.board.Move.PawnEnPassantAttackMove;
+import engine.board.Move.PawnJumpMove;
+import engine.board.Move.PawnMove;
+import engine.board.Move.PawnPromotion;
+import engine.board.Move.ShortCastleMove;
+import engine.pieces.Piece;
+import engine.pieces.Rook;
+import engine.pieces.Piece.PieceType;
+
+public final class EncodedMove {
+    public static final int NONE = 0;
+
+    public static final int QUIET = 0;
+    public static final int PAWN_JUMP = 1;
+    public static final int SHORT_CASTLE = 2;
+    public static final int LONG_CASTLE = 3;
+    public static final int CAPTURE = 4;
+    public static final int EN_PASSANT = 5;
+    public static final int PROMOTION = 8;
+    public static final int KNIGHT_PROMOTION = PROMOTION;
+    public static final int BISHOP_PROMOTION = PROMOTION | 1;
+    public static final int ROOK_PROMOTION = PROMOTION | 2;
+    public static final int QUEEN_PROMOTION = PROMOTION | 3;
+
+    private static final int SQUARE_MASK = 0x3F;
+    private static final int DESTINATION_SHIFT = 6;
+    private static final int FLAGS_SHIFT = 12;
+
+    private EncodedMove() {
+        throw new RuntimeException("EncodedMove cannot be instantiated");
+    }
+
+    public static int encode(final int source, final int destination, final int flags) {
+        return source | destination << DESTINATION_SHIFT | flags << FLAGS_SHIFT;
+    }
+
+    public static int encode(final Move move) {
+        final int source = move.getCurrentPosition().getTileCoordinate();
+        final int destination = move.getDestinationPosition().getTileCoordinate();
+        int flags = QUIET;
+
+        if (move.isCastlingMove())
+            flags = move instanceof ShortCastleMove ? SHORT_CASTLE : LONG_CASTLE;
+        else if (move instanceof PawnEnPassantAttackMove)
+            flags = EN_PASSANT;
+        else if (move instanceof PawnJumpMove)
+            flags = PAWN_JUMP;
+        else if (move.isAttackMove())
+            flags = CAPTURE;
+
+        if (move.isPromotionMove())
+            flags |= PROMOTION | (move.getPromotionType().ordinal() - PieceType.KNIGHT.ordinal());
+
+        return encode(source, destination, flags);
+    }
+
+    public static Move decode(final Board board, final int move) {
+        final int source = getSource(move);
+        final int destination = getDestination(move);
+        final Piece movedPiece = board.getPiece(source);
+        final Position destinationPosition = Position.of(destination);
+
+        switch (isPromotion(move) ? QUIET : getFlags(move)) {
+            case PAWN_JUMP:
+                return new PawnJumpMove(board, movedPiece, destinationPosition);
+            case SHORT_CASTLE:
+                return new ShortCastleMove(
+                        board,
+                        movedPiece,
+                        destinationPosition,
+                        (Rook) board.getPiece(source + 3),
+                        Position.of(source + 3),
+                        Position.of(source + 1));
+            case LONG_CASTLE:
+                return new LongCastleMove(
+                        board,
+                        movedPiece,
+                        destinationPosition,
+                        (Rook) board.getPiece(source - 4),
+                        Position.of(source - 4),
+                        Position.of(source - 1));
+            case EN_PASSANT:
+                return new PawnEnPassantAttackMove(board, movedPiece, destinationPosition, board.getEnPassantPawn());
+            default:
+                break;
+        }
+
+        final boolean isPawn = movedPiece.getPieceType().equals(PieceType.PAWN);
+        final Move decodedMove;
+
+        if (isCapture(move))
+            decodedMove = isPawn
+                    ? new PawnAttackMove(board, movedPiece, destinationPosition, board.getPiece(destination))
+                    : new AttackMove(board, movedPiece, destinationPosition, board.getPiece(destination));
+        else
+            decodedMove = isPawn
+                    ? new PawnMove(board, movedPiece, destinationPosition)
+                    : new NormalMove(board, movedPiece, destinationPosition);
+
+        return isPromotion(move)
+                ? new PawnPromotion(decodedMove, PieceType.values()[getPromotionTypeOrdinal(move)])
+                : decodedMove;
+    }
+
+    public static int getSource(final int move) {
+        return move & SQUARE_MASK;
+    }
+
+    public static int getDestination(final int move) {
+        return (move >>> DESTINATION_SHIFT) & SQUARE_MASK;
+    }
+
+    public static int getFlags(final int move) {
+        return move >>> FLAGS_SHIFT;
+    }
+
+    public static boolean isCapture(final int move) {
+        return (getFlags(move) & CAPTURE) != 0;
+    }
+
+    public static boolean isPromotion(final int move) {
+        return (getFlags(move) & PROMOTION) != 0;
+    }
+
+    public static boolean isCastling(final int move) {
+        final int flags = getFlags(move);
+
+        return flags == SHORT_CASTLE || flags == LONG_CASTLE;
+    }
+
+    public static int getPromotionTypeOrdinal(final int move) {
+        return (getFlags(move) & 3) + PieceType.KNIGHT.ordinal();
+    }
+
+    public static String toString(final int move) {
+        final StringBuilder sb = new StringBuilder(5);
+
+        appendSquare(sb, getSource(move));
+        appendSquare(sb, getDestination(move));
+
+        if (isPromotion(move))
+            sb.append(Character.toLowerCase(PieceType.values()[getPromotionTypeOrdinal(move)].toString().charAt(0)));
+
+        return sb.toString();
+    }
+
+    private static void appendSquare(final StringBuilder sb, final int square) {
+        sb.append((char) ('a' + square % Position.NUM_FILES));
+        sb.append((char) ('1' + square / Position.NUM_FILES));
+    }
+}
@@ -0,0 +1,276 @@
+package engine.board;
+
+import engine.Color;
+import engine.board.Board.BoardBuilder;
+import engine.pieces.Pawn;
+import engine.pieces.Piece;
+import engine.pieces.Piece.PieceType;
+
+public final class Fen {
+    public static final String STANDARD = "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1";
+
+    private static final String PIECE_CHARS = "PNBRQKpnbrqk";
+    private static final String CASTLING_CHARS = "KQkq";
+    private static final PieceType[] PIECE_TYPES = PieceType.values();
+    private static final Color[] COLORS = Color.values();
+
+    private Fen() {
+        throw new RuntimeException("Fen cannot be instantiated");
+    }
+
+    public static Board createBoard(final CharSequence fen) {
+        return createBuilder(fen).build();
+    }
+
+    public static BoardBuilder createBuilder(final CharSequence fen) {
+        final int length = fen.length();
+        final int placementStart = skipSpaces(fen, 0);
+        final int placementEnd = skipField(fen, placementStart);
+
+        if (placementEnd == placementStart)
+            throw new IllegalArgumentException("Empty FEN");
+
+        final BoardBuilder builder = new BoardBuilder();
+        int index = skipSpaces(fen, placementEnd);
+
+        Color moveMaker = Color.WHITE;
+
+        if (index < length) {
+            final char side = fen.charAt(index++);
+
+            if (side == 'b')
+                moveMaker = Color.BLACK;
+            else if (side != 'w')
+                throw new IllegalArgumentException("Invalid FEN side to move: " + side);
+
+            index = skipSpaces(fen, index);
+        }
+
+        int castlingRights = CastlingRights.NONE;
+
+        if (index < length) {
+            final int fieldEnd = skipField(fen, index);
+
+            for (; index < fieldEnd; index++) {
+                final char c = fen.charAt(index);
+                final int right = CASTLING_CHARS.indexOf(c);
+
+                if (right >= 0)
+                    castlingRights |= 1 << right;
+                else if (c != '-')
+                    throw new IllegalArgumentException("Invalid FEN castling rights: " + c);
+            }
+
+            index = skipSpaces(fen, index);
+        }
+
+        int enPassantSquare = -1;
+
+        if (index < length) {
+            final int fieldEnd = skipField(fen, index);
+
+            if (fen.charAt(index) != '-') {
+                if (fieldEnd - index != 2)
+                    throw new IllegalArgumentException("Invalid FEN en passant square");
+
+                enPassantSquare = parseSquare(fen.charAt(index), fen.charAt(index + 1));
+            }
+
+            index = skipSpaces(fen, fieldEnd);
+        }
+
+        if (index < length) {
+            final int fieldEnd = skipField(fen, index);
+
+            builder.setHalfMoveClock(parseNumber(fen, index, fieldEnd));
+            index = skipSpaces(fen, fieldEnd);
+        }
+
+        if (index < length) {
+            final int fieldEnd = skipField(fen, index);
+
+            builder.setFullMoveNumber(Math.max(1, parseNumber(fen, index, fieldEnd)));
+        }
+
+        final int enPassantPawnSquare = enPassantSquare < 0
+                ? -1
+                : enPassantSquare - Position.NUM_FILES * moveMaker.getDirection();
+
+        int rankOrdinal = Position.NUM_RANKS - 1;
+        int fileOrdinal = 0;
+
+        for (index = placementStart; index < placementEnd; index++) {
+            final char c = fen.charAt(index);
+
+            if (c == '/') {
+                if (fileOrdinal != Position.NUM_FILES || rankOrdinal == 0)
+                    throw new IllegalArgumentException("Invalid FEN rank at " + index);
+
+                rankOrdinal--;
+                fileOrdinal = 0;
+            } else if (c >= '1' && c <= '8') {
+                fileOrdinal += c - '0';
+            } else {
+                final int pieceCode = PIECE_CHARS.indexOf(c);
+
+                if (pieceCode < 0 || fileOrdinal >= Position.NUM_FILES)
+                    throw new IllegalArgumentException("Invalid FEN piece at " + index + ": " + c);
+
+                final int square = rankOrdinal * Position.NUM_FILES + fileOrdinal;
+                final Piece piece = createPiece(pieceCode, square, castlingRights);
+
+                builder.setPiece(piece);
+
+                if (square == enPassantPawnSquare && piece.getPieceType().equals(PieceType.PAWN))
+                    builder.setEnPassant((Pawn) piece);
+
+                fileOrdinal++;
+            }
+
+            if (fileOrdinal > Position.NUM_FILES)
+                throw new IllegalArgumentException("Invalid FEN rank at " + index);
+        }
+
+        if (rankOrdinal != 0 || fileOrdinal != Position.NUM_FILES)
+            throw new IllegalArgumentException("Incomplete FEN piece placement");
+
+        builder.setMoveMaker(moveMaker);
+
+        return builder;
+    }
+
+    private static Piece createPiece(final int pieceCode, final int square, final int castlingRights) {
+        final PieceType type = PIECE_TYPES[BitBoards.getTypeOrdinal(pieceCode)];
+        final Color color = COLORS[BitBoards.getColorOrdinal(pieceCode)];
+        final boolean isWhite = color.equals(Color.WHITE);
+        final boolean hasMoved;
+
+        switch (type) {
+            case PAWN:
+                hasMoved = square / Position.NUM_FILES != (isWhite ? 1 : Position.NUM_RANKS - 2);
+                break;
+            case KING:
+                hasMoved = isWhite
+                        ? square != CastlingRights.WHITE_KING_SQUARE
+                                || (castlingRights & (CastlingRights.WHITE_SHORT | CastlingRights.WHITE_LONG)) == 0
+                        : square != CastlingRights.BLACK_KING_SQUARE
+                                || (castlingRights & (CastlingRights.BLACK_SHORT | CastlingRights.BLACK_LONG)) == 0;
+                break;
+            case ROOK:
+                hasMoved = (castlingRights & getRookRight(square, isWhite)) == 0;
+                break;
+            default:
+                hasMoved = false;
+        }
+
+        return Piece.of(type, Position.of(square), color, hasMoved);
+    }
+
+    private static int getRookRight(final int square, final boolean isWhite) {
+        final int kingSquare = isWhite ? CastlingRights.WHITE_KING_SQUARE : CastlingRights.BLACK_KING_SQUARE;
+
+        if (square == kingSquare + 3)
+            return isWhite ? CastlingRights.WHITE_SHORT : CastlingRights.BLACK_SHORT;
+
+        if (square == kingSquare - 4)
+            return isWhite ? CastlingRights.WHITE_LONG : CastlingRights.BLACK_LONG;
+
+        return CastlingRights.NONE;
+    }
+
+    private static int parseSquare(final char file, final char rank) {
+        if (file < 'a' || file > 'h' || rank < '1' || rank > '8')
+            throw new IllegalArgumentException("Invalid FEN square: " + file + rank);
+
+        return (rank - '1') * Position.NUM_FILES + (file - 'a');
+    }
+
+    private static int parseNumber(final CharSequence fen, final int start, final int end) {
+        int number = 0;
+
+        for (int i = start; i < end; i++) {
+            final char c = fen.charAt(i);
+
+            if (c < '0' || c > '9')
+                throw new IllegalArgumentException("Invalid FEN number: " + fen.subSequence(start, end));
+
+            number = number * 10 + (c - '0');
+        }
+
+        return number;
+    }
+
+    private static int skipSpaces(final CharSequence fen, int index) {
+        while (index < fen.length() && fen.charAt(index) == ' ')
+            index++;
+
+        return index;
+    }
+
+    private static int skipField(final CharSequence fen, int index) {
+        while (index < fen.length() && fen.charAt(index) != ' ')
+            index++;
+
+        return index;
+    }
+
+    public static String toFen(final Board board) {
+        return toFen(board, new StringBuilder(90)).toString();
+    }
+
+    public static StringBuilder toFen(final Board board, final StringBuilder fen) {
+        final BitBoards bitBoards = board.getBitBoards();
+
+        for (int rankOrdinal = Position.NUM_RANKS - 1; rankOrdinal >= 0; rankOrdinal--) {
+            int emptySquares = 0;
+
+            for (int fileOrdinal = 0; fileOrdinal < Position.NUM_FILES; fileOrdinal++) {
+                final int pieceCode = bitBoards.getPieceCode(rankOrdinal * Position.NUM_FILES + fileOrdinal);
+
+                if (pieceCode == BitBoards.NO_PIECE) {
+                    emptySquares++;
+                    continue;
+                }
+
+                if (emptySquares > 0) {
+                    fen.append((char) ('0' + emptySquares));
+                    emptySquares = 0;
+                }
+
+                fen.append(PIECE_CHARS.charAt(pieceCode));
+            }
+
+            if (emptySquares > 0)
+                fen.append((char) ('0' + emptySquares));
+
+            if (rankOrdinal > 0)
+                fen.append('/');
+        }
+
+        fen.append(' ').append(board.getMoveMaker().equals(Color.WHITE) ? 'w' : 'b').append(' ');
+
+        final int castlingRights = board.getCastlingRights();
+
+        if (castlingRights == CastlingRights.NONE)
+            fen.append('-');
+        else
+            for (int right = 0; right < CASTLING_CHARS.length(); right++)
+                if ((castlingRights & (1 << right)) != 0)
+                    fen.append(CASTLING_CHARS.charAt(right));
+
+        fen.append(' ');
+
+        final int enPassantSquare = board.getEnPassantSquare();
+
+        if (enPassantSquare < 0)
+            fen.append('-');
+        else
+            fen.append((char) ('a' + enPassantSquare % Position.NUM_FILES))
+                    .append((char) ('1' + enPassantSquare / Position.NUM_FILES));
+
+        return fen.append(' ')
+                .append(board.getHalfMoveClock())
+                .append(' ')
+                .append(board.getFullMoveNumber());
+    }
+}
@@ -1,12 +1,13 @@
 package engine.board;
 
 import java.util.HashSet;
-import java.util.Set;
 
+import engine.Color;
 import engine.board.Board.BoardBuilder;
 import engine.pieces.Pawn;
 import engine.pieces.Piece;
 import engine.pieces.Rook;
+import engine.pieces.Piece.PieceType;
 
 public abstract class Move {
     protected final Board board;
@@ -24,11 +25,11 @@ public abstract class Move {
     protected BoardBuilder copyBoardWithoutPieces(final HashSet<Piece> excludedPieces) {
         final BoardBuilder builder = new BoardBuilder();
 
-        for (final Piece piece : this.board.getCurrentPlayer().getActivePieces())
+        for (final Piece piece : this.board.getWhitePieces())
             if (excludedPieces.contains(piece) == false)
                 builder.setPiece(piece);
 
-        for (final Piece piece : this.board.getCurrentPlayer().getOpponent().getActivePieces())
+        for (final Piece piece : this.board.getBlackPieces())
             if (excludedPieces.contains(piece) == false)
                 builder.setPiece(piece);
 
@@ -42,11 +43,31 @@ public abstract class Move {
         final BoardBuilder builder = this.copyBoardWithoutPieces(excludedPieces);
 
         builder.setPiece(movedPiece.movePiece(this.destinationPosition));
-        builder.setMoveMaker(this.board.getCurrentPlayer().getOpponent().getColor());
+        return this.buildNextBoard(builder);
+    }
+
+    protected Board buildNextBoard(final BoardBuilder builder) {
+        final boolean resetsHalfMoveClock = this.isAttackMove()
+                || this.movedPiece.getPieceType().equals(PieceType.PAWN);
+
+        builder.setMoveMaker(this.board.getMoveMaker().getOpposite());
+        builder.setZobristKey(this.calculateZobristKey());
+        builder.setHalfMoveClock(resetsHalfMoveClock ? 0 : this.board.getHalfMoveClock() + 1);
+        builder.setFullMoveNumber(this.board.getFullMoveNumber()
+                + (this.board.getMoveMaker().equals(Color.BLACK) ? 1 : 0));
 
         return builder.build();
     }
 
+    protected long calculateZobristKey() {
+        return Zobrist.updateKey(
+                this.board.getZobristKey(),
+                this.board.getBitBoards(),
+                EncodedMove.encode(this),
+                this.board.getCastlingRights(),
+                this.board.getEnPassantSquare());
+    }
+
     public Position getCurrentPosition() {
         return this.movedPiece.getPosition();
     }
@@ -67,10 +88,23 @@ public abstract class Move {
         return false;
     }
 
+    public boolean isPromotionMove() {
+        return false;
+    }
+
     public Piece getAttackedPiece() {
         return null;
     }
 
+    public PieceType getPromotionType() {
+        return null;
+    }
+
+    @Override
+    public String toString() {
+        return EncodedMove.toString(EncodedMove.encode(this));
+    }
+
     @Override
     public boolean equals(final Object other) {
         if (this == other)
@@ -103,11 +137,6 @@ public abstract class Move {
 
             super(board, movedPiece, destinationPosition);
         }
-
-        @Override
-        public String toString() {
-            return this.movedPiece.toString() + this.destinationPosition.toString();
-        }
     }
 
     public static class AttackMove extends Move {
@@ -150,11 +179,6 @@ public abstract class Move {
         public int hashCode() {
             return 31 * super.hashCode() + this.attackedPiece.hashCode();
         }
-
-        @Override
-        public String toString() {
-            return this.movedPiece.toString() + "x" + this.destinationPosition.toString();
-        }
     }
 
     public static class PawnMove extends Move {
@@ -165,11 +189,6 @@ public abstract class Move {
 
             super(board, movedPiece, destinationPosition);
         }
-
-        @Override
-        public String toString() {
-            return this.destinationPosition.toString();
-        }
     }
 
     public static class PawnAttackMove extends AttackMove {
@@ -181,16 +200,6 @@ public abstract class Move {
 
             super(board, movedPiece, destinationPosition, attackedPiece);
         }
-
-        @Override
-        public String toString() {
-            return this.movedPiece
-                    .getPosition().file
-                    .name()
-                    .toLowerCase()
-                    + "x"
-                    + this.destinationPosition.toString();
-        }
     }
 
     public static final class PawnEnPassantAttackMove extends PawnAttackMove {
@@ -202,6 +211,82 @@ public abstract class Move {
 
             super(board, movedPiece, destinationPosition, attackedPiece);
         }
+
+        @Override
+        public Board execute() {
+            final HashSet<Piece> excludedPieces = new HashSet<>();
+            excludedPieces.add(this.movedPiece);
+            excludedPieces.add(this.attackedPiece);
+
+            final BoardBuilder builder = this.copyBoardWithoutPieces(excludedPieces);
+
+            builder.setPiece(movedPiece.movePiece(this.destinationPosition));
+            return this.buildNextBoard(builder);
+        }
+    }
+
+    public static final class PawnPromotion extends PawnMove {
+        private final Move decoratedMove;
+        private final PieceType promotionType;
+
+        public PawnPromotion(final Move decoratedMove, final PieceType promotionType) {
+            super(decoratedMove.board, decoratedMove.movedPiece, decoratedMove.destinationPosition);
+            this.decoratedMove = decoratedMove;
+            this.promotionType = promotionType;
+        }
+
+        @Override
+        public Board execute() {
+            final HashSet<Piece> excludedPieces = new HashSet<>();
+            excludedPieces.add(this.movedPiece);
+
+            if (this.decoratedMove.isAttackMove())
+                excludedPieces.add(this.decoratedMove.getAttackedPiece());
+
+            final BoardBuilder builder = this.copyBoardWithoutPieces(excludedPieces);
+
+            builder.setPiece(((Pawn) this.movedPiece).promote(this.promotionType, this.destinationPosition));
+            return this.buildNextBoard(builder);
+        }
+
+        @Override
+        public boolean isAttackMove() {
+            return this.decoratedMove.isAttackMove();
+        }
+
+        @Override
+        public boolean isPromotionMove() {
+            return true;
+        }
+
+        @Override
+        public Piece getAttackedPiece() {
+            return this.decoratedMove.getAttackedPiece();
+        }
+
+        @Override
+        public PieceType getPromotionType() {
+            return this.promotionType;
+        }
+
+        @Override
+        public boolean equals(final Object other) {
+            if (this == other)
+                return true;
+
+            if (other instanceof PawnPromotion == false)
+                return false;
+
+            final PawnPromotion otherPromotion = (PawnPromotion) other;
+
+            return this.decoratedMove.equals(otherPromotion.decoratedMove)
+                    && this.promotionType.equals(otherPromotion.promotionType);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * this.decoratedMove.hashCode() + this.promotionType.hashCode();
+        }
     }
 
     public static final class PawnJumpMove extends PawnMove {
@@ -220,9 +305,7 @@ public abstract class Move {
 
             builder.setPiece(movedPawn);
             builder.setEnPassant(movedPawn);
-            builder.setMoveMaker(this.board.getCurrentPlayer().getOpponent().getColor());
-
-            return builder.build();
+            return this.buildNextBoard(builder);
         }
     }
 
@@ -263,10 +346,12 @@ public abstract class Move {
             final BoardBuilder builder = this.copyBoardWithoutPieces(excludedPieces);
 
             builder.setPiece(movedPiece.movePiece(this.destinationPosition));
-            builder.setPiece(new Rook(this.rookDestinationPosition, this.castledRook.getColor(), false));
-            builder.setMoveMaker(this.board.getCurrentPlayer().getOpponent().getColor());
-
-            return builder.build();
+            builder.setPiece(Piece.of(
+                    PieceType.ROOK,
+                    this.rookDestinationPosition,
+                    this.castledRook.getColor(),
+                    false));
+            return this.buildNextBoard(builder);
         }
     }
 
@@ -281,11 +366,6 @@ public abstract class Move {
 
             super(board, movedPiece, destinationPosition, castledRook, rookStartPosition, rookDestinationPosition);
         }
-
-        @Override
-        public String toString() {
-            return "O-O";
-        }
     }
 
     public static final class LongCastleMove extends CastleMove {
@@ -298,22 +378,22 @@ public abstract class Move {
 
             super(board, movedPiece, destinationPosition, castledRook, rookStartPosition, rookDestinationPosition);
         }
-
-        @Override
-        public String toString() {
-            return "O-O-O";
-        }
     }
 
     private static final class NullMove extends Move {
         public NullMove() {
-            super(null, null, new Position(Position.File.NONE, Position.Rank.NONE));
+            super(null, null, Position.NONE);
         }
 
         @Override
         public Board execute() {
             throw new RuntimeException("Cannot execute NullMove");
         }
+
+        @Override
+        public String toString() {
+            return "0000";
+        }
     }
 
     public static class MoveFactory {
@@ -326,12 +406,20 @@ public abstract class Move {
                 final Position currentPosition,
                 final Position destinationPosition) {
 
-            Set<Move> legalMoves = board.getAllLegalMoves();
+            return board.getLegalMove(currentPosition, destinationPosition);
+        }
+
+        public static Move create(final Board board, final int encodedMove) {
+            final Move move = board.getLegalMove(
+                    Position.of(EncodedMove.getSource(encodedMove)),
+                    Position.of(EncodedMove.getDestination(encodedMove)));
+
+            if (move == NULL_MOVE || EncodedMove.isPromotion(encodedMove) == false)
+                return move;
 
-            for (final Move move : legalMoves)
-                if (currentPosition.equals(move.getCurrentPosition())
-                        && destinationPosition.equals(move.getDestinationPosition()))
-                    return move;
+            for (final Move promotion : board.getCurrentPlayer().getLegalMoves())
+                if (EncodedMove.encode(promotion) == encodedMove)
+                    return promotion;
 
             return NULL_MOVE;
         }
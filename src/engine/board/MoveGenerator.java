@@ -0,0 +1,369 @@
+package engine.board;
+
+import engine.pieces.Piece.PieceType;
+
+public final class MoveGenerator {
+    private static final int PAWN = PieceType.PAWN.ordinal();
+    private static final int KNIGHT = PieceType.KNIGHT.ordinal();
+    private static final int BISHOP = PieceType.BISHOP.ordinal();
+    private static final int ROOK = PieceType.ROOK.ordinal();
+    private static final int QUEEN = PieceType.QUEEN.ordinal();
+    private static final int KING = PieceType.KING.ordinal();
+
+    private MoveGenerator() {
+        throw new RuntimeException("MoveGenerator cannot be instantiated");
+    }
+
+    public static void generateMoves(
+            final BitBoards bitBoards,
+            final int colorOrdinal,
+            final int castlingRights,
+            final int enPassantSquare,
+            final MoveList moves) {
+
+        final int pieceCodeBase = BitBoards.getPieceCode(colorOrdinal, 0);
+        final long ownOccupancy = bitBoards.getOccupancy(colorOrdinal);
+        final long opponentOccupancy = bitBoards.getOccupancy(colorOrdinal ^ 1);
+        final long occupancy = bitBoards.getOccupancy();
+        final long targets = ~ownOccupancy;
+
+        generatePawnMoves(bitBoards, colorOrdinal, enPassantSquare, moves);
+
+        for (long bits = bitBoards.getPieces(pieceCodeBase + KNIGHT); bits != 0; bits &= bits - 1) {
+            final int source = Long.numberOfTrailingZeros(bits);
+            addMoves(moves, source, Attacks.getKnightAttacks(source) & targets, opponentOccupancy);
+        }
+
+        for (long bits = bitBoards.getPieces(pieceCodeBase + BISHOP); bits != 0; bits &= bits - 1) {
+            final int source = Long.numberOfTrailingZeros(bits);
+            addMoves(moves, source, Attacks.getBishopAttacks(source, occupancy) & targets, opponentOccupancy);
+        }
+
+        for (long bits = bitBoards.getPieces(pieceCodeBase + ROOK); bits != 0; bits &= bits - 1) {
+            final int source = Long.numberOfTrailingZeros(bits);
+            addMoves(moves, source, Attacks.getRookAttacks(source, occupancy) & targets, opponentOccupancy);
+        }
+
+        for (long bits = bitBoards.getPieces(pieceCodeBase + QUEEN); bits != 0; bits &= bits - 1) {
+            final int source = Long.numberOfTrailingZeros(bits);
+            addMoves(moves, source, Attacks.getQueenAttacks(source, occupancy) & targets, opponentOccupancy);
+        }
+
+        for (long bits = bitBoards.getPieces(pieceCodeBase + KING); bits != 0; bits &= bits - 1) {
+            final int source = Long.numberOfTrailingZeros(bits);
+            addMoves(moves, source, Attacks.getKingAttacks(source) & targets, opponentOccupancy);
+        }
+
+        generateCastleMoves(bitBoards, colorOrdinal, castlingRights, moves);
+    }
+
+    public static void generateLegalMoves(
+            final BitBoards bitBoards,
+            final int colorOrdinal,
+            final int castlingRights,
+            final int enPassantSquare,
+            final MoveList moves) {
+
+        final int pieceCodeBase = BitBoards.getPieceCode(colorOrdinal, 0);
+        final int opponentOrdinal = colorOrdinal ^ 1;
+        final long ownOccupancy = bitBoards.getOccupancy(colorOrdinal);
+        final long opponentOccupancy = bitBoards.getOccupancy(opponentOrdinal);
+        final long occupancy = bitBoards.getOccupancy();
+        final long kingBit = bitBoards.getPieces(pieceCodeBase + KING);
+        final int kingSquare = Long.numberOfTrailingZeros(kingBit);
+        final long checkers = Attacks.getAttackers(bitBoards, kingSquare, occupancy) & opponentOccupancy;
+
+        for (long bits = Attacks.getKingAttacks(kingSquare) & ~ownOccupancy; bits != 0; bits &= bits - 1) {
+            final int destination = Long.numberOfTrailingZeros(bits);
+            final long attackers = Attacks.getAttackers(bitBoards, destination, occupancy ^ kingBit) & opponentOccupancy;
+
+            if (attackers == 0)
+                addMoves(moves, kingSquare, BitBoards.getSquareBit(destination), opponentOccupancy);
+        }
+
+        if (Long.bitCount(checkers) > 1)
+            return;
+
+        final long targets = checkers == 0
+                ? ~ownOccupancy
+                : checkers | Attacks.getBetween(kingSquare, Long.numberOfTrailingZeros(checkers));
+        final long pinned = calculatePinned(bitBoards, colorOrdinal, kingSquare);
+        final long pawns = bitBoards.getPieces(pieceCodeBase + PAWN);
+
+        generateLegalPawnMoves(bitBoards, colorOrdinal, pawns & ~pinned, targets, moves);
+
+        for (long bits = pawns & pinned; bits != 0; bits &= bits - 1) {
+            final int source = Long.numberOfTrailingZeros(bits);
+            final long pinLine = Attacks.getLine(kingSquare, source);
+
+            generateLegalPawnMoves(bitBoards, colorOrdinal, BitBoards.getSquareBit(source), targets & pinLine, moves);
+        }
+
+        if (enPassantSquare >= 0)
+            generateLegalEnPassantMoves(bitBoards, colorOrdinal, kingSquare, enPassantSquare, moves);
+
+        for (long bits = bitBoards.getPieces(pieceCodeBase + KNIGHT) & ~pinned; bits != 0; bits &= bits - 1) {
+            final int source = Long.numberOfTrailingZeros(bits);
+            addMoves(moves, source, Attacks.getKnightAttacks(source) & targets, opponentOccupancy);
+        }
+
+        for (long bits = bitBoards.getPieces(pieceCodeBase + BISHOP); bits != 0; bits &= bits - 1) {
+            final int source = Long.numberOfTrailingZeros(bits);
+            final long destinations = Attacks.getBishopAttacks(source, occupancy) & targets;
+            addMoves(moves, source, restrictToPin(destinations, pinned, kingSquare, source), opponentOccupancy);
+        }
+
+        for (long bits = bitBoards.getPieces(pieceCodeBase + ROOK); bits != 0; bits &= bits - 1) {
+            final int source = Long.numberOfTrailingZeros(bits);
+            final long destinations = Attacks.getRookAttacks(source, occupancy) & targets;
+            addMoves(moves, source, restrictToPin(destinations, pinned, kingSquare, source), opponentOccupancy);
+        }
+
+        for (long bits = bitBoards.getPieces(pieceCodeBase + QUEEN); bits != 0; bits &= bits - 1) {
+            final int source = Long.numberOfTrailingZeros(bits);
+            final long destinations = Attacks.getQueenAttacks(source, occupancy) & targets;
+            addMoves(moves, source, restrictToPin(destinations, pinned, kingSquare, source), opponentOccupancy);
+        }
+
+        if (checkers == 0)
+            generateCastleMoves(bitBoards, colorOrdinal, castlingRights, moves);
+    }
+
+    private static long calculatePinned(final BitBoards bitBoards, final int colorOrdinal, final int kingSquare) {
+        final int opponentCodeBase = BitBoards.getPieceCode(colorOrdinal ^ 1, 0);
+        final long occupancy = bitBoards.getOccupancy();
+        final long ownOccupancy = bitBoards.getOccupancy(colorOrdinal);
+        final long queens = bitBoards.getPieces(opponentCodeBase + QUEEN);
+        final long snipers = Attacks.getRookAttacks(kingSquare, BitBoards.EMPTY)
+                & (bitBoards.getPieces(opponentCodeBase + ROOK) | queens)
+                | Attacks.getBishopAttacks(kingSquare, BitBoards.EMPTY)
+                        & (bitBoards.getPieces(opponentCodeBase + BISHOP) | queens);
+
+        long pinned = BitBoards.EMPTY;
+
+        for (long bits = snipers; bits != 0; bits &= bits - 1) {
+            final long blockers = Attacks.getBetween(kingSquare, Long.numberOfTrailingZeros(bits)) & occupancy;
+
+            if (Long.bitCount(blockers) == 1)
+                pinned |= blockers & ownOccupancy;
+        }
+
+        return pinned;
+    }
+
+    private static long restrictToPin(
+            final long destinations,
+            final long pinned,
+            final int kingSquare,
+            final int source) {
+
+        return (pinned & BitBoards.getSquareBit(source)) == 0
+                ? destinations
+                : destinations & Attacks.getLine(kingSquare, source);
+    }
+
+    private static void generateLegalPawnMoves(
+            final BitBoards bitBoards,
+            final int colorOrdinal,
+            final long pawns,
+            final long targets,
+            final MoveList moves) {
+
+        final long emptySquares = ~bitBoards.getOccupancy();
+        final long opponentOccupancy = bitBoards.getOccupancy(colorOrdinal ^ 1);
+        final long jumpRank = colorOrdinal == 0 ? BitBoards.RANK_4 : BitBoards.RANK_5;
+        final int pushOffset = colorOrdinal == 0 ? Position.NUM_FILES : -Position.NUM_FILES;
+
+        final long pushes = Attacks.getPawnPushes(colorOrdinal, pawns) & emptySquares;
+        final long jumps = Attacks.getPawnPushes(colorOrdinal, pushes) & emptySquares & jumpRank & targets;
+        final long westAttacks = Attacks.getPawnWestAttacks(colorOrdinal, pawns) & opponentOccupancy & targets;
+        final long eastAttacks = Attacks.getPawnEastAttacks(colorOrdinal, pawns) & opponentOccupancy & targets;
+
+        addPawnMoves(moves, pushes & targets, pushOffset, EncodedMove.QUIET);
+        addPawnMoves(moves, westAttacks, pushOffset - 1, EncodedMove.CAPTURE);
+        addPawnMoves(moves, eastAttacks, pushOffset + 1, EncodedMove.CAPTURE);
+
+        for (long bits = jumps; bits != 0; bits &= bits - 1) {
+            final int destination = Long.numberOfTrailingZeros(bits);
+            moves.add(EncodedMove.encode(destination - 2 * pushOffset, destination, EncodedMove.PAWN_JUMP));
+        }
+    }
+
+    private static void generateLegalEnPassantMoves(
+            final BitBoards bitBoards,
+            final int colorOrdinal,
+            final int kingSquare,
+            final int enPassantSquare,
+            final MoveList moves) {
+
+        final long pawns = bitBoards.getPieces(BitBoards.getPieceCode(colorOrdinal, PAWN));
+        final long opponentOccupancy = bitBoards.getOccupancy(colorOrdinal ^ 1);
+        final int capturedSquare = enPassantSquare + (colorOrdinal == 0 ? -Position.NUM_FILES : Position.NUM_FILES);
+        final long capturedBit = BitBoards.getSquareBit(capturedSquare);
+        final long enPassantAttackers = Attacks.getPawnAttacks(colorOrdinal ^ 1, enPassantSquare) & pawns;
+
+        for (long bits = enPassantAttackers; bits != 0; bits &= bits - 1) {
+            final int source = Long.numberOfTrailingZeros(bits);
+            final long occupancy = bitBoards.getOccupancy()
+                    ^ BitBoards.getSquareBit(source)
+                    ^ capturedBit
+                    | BitBoards.getSquareBit(enPassantSquare);
+            final long attackers = Attacks.getAttackers(bitBoards, kingSquare, occupancy) & opponentOccupancy;
+
+            if ((attackers & ~capturedBit) == 0)
+                moves.add(EncodedMove.encode(source, enPassantSquare, EncodedMove.EN_PASSANT));
+        }
+    }
+
+    public static void generateCaptures(
+            final BitBoards bitBoards,
+            final int colorOrdinal,
+            final int enPassantSquare,
+            final MoveList moves) {
+
+        final int pieceCodeBase = BitBoards.getPieceCode(colorOrdinal, 0);
+        final long opponentOccupancy = bitBoards.getOccupancy(colorOrdinal ^ 1);
+        final long occupancy = bitBoards.getOccupancy();
+        final long pawns = bitBoards.getPieces(pieceCodeBase + PAWN);
+        final long promotionRank = colorOrdinal == 0 ? BitBoards.RANK_8 : BitBoards.RANK_1;
+        final int pushOffset = colorOrdinal == 0 ? Position.NUM_FILES : -Position.NUM_FILES;
+
+        final long promotions = Attacks.getPawnPushes(colorOrdinal, pawns) & ~occupancy & promotionRank;
+        final long westAttacks = Attacks.getPawnWestAttacks(colorOrdinal, pawns) & opponentOccupancy;
+        final long eastAttacks = Attacks.getPawnEastAttacks(colorOrdinal, pawns) & opponentOccupancy;
+
+        addPawnMoves(moves, promotions, pushOffset, EncodedMove.QUIET);
+        addPawnMoves(moves, westAttacks, pushOffset - 1, EncodedMove.CAPTURE);
+        addPawnMoves(moves, eastAttacks, pushOffset + 1, EncodedMove.CAPTURE);
+
+        if (enPassantSquare >= 0) {
+            final long enPassantAttackers = Attacks.getPawnAttacks(colorOrdinal ^ 1, enPassantSquare) & pawns;
+
+            for (long bits = enPassantAttackers; bits != 0; bits &= bits - 1)
+                moves.add(EncodedMove.encode(Long.numberOfTrailingZeros(bits), enPassantSquare, EncodedMove.EN_PASSANT));
+        }
+
+        for (long bits = bitBoards.getPieces(pieceCodeBase + KNIGHT); bits != 0; bits &= bits - 1) {
+            final int source = Long.numberOfTrailingZeros(bits);
+            addMoves(moves, source, Attacks.getKnightAttacks(source) & opponentOccupancy, opponentOccupancy);
+        }
+
+        for (long bits = bitBoards.getPieces(pieceCodeBase + BISHOP); bits != 0; bits &= bits - 1) {
+            final int source = Long.numberOfTrailingZeros(bits);
+            addMoves(moves, source, Attacks.getBishopAttacks(source, occupancy) & opponentOccupancy, opponentOccupancy);
+        }
+
+        for (long bits = bitBoards.getPieces(pieceCodeBase + ROOK); bits != 0; bits &= bits - 1) {
+            final int source = Long.numberOfTrailingZeros(bits);
+            addMoves(moves, source, Attacks.getRookAttacks(source, occupancy) & opponentOccupancy, opponentOccupancy);
+        }
+
+        for (long bits = bitBoards.getPieces(pieceCodeBase + QUEEN); bits != 0; bits &= bits - 1) {
+            final int source = Long.numberOfTrailingZeros(bits);
+            addMoves(moves, source, Attacks.getQueenAttacks(source, occupancy) & opponentOccupancy, opponentOccupancy);
+        }
+
+        for (long bits = bitBoards.getPieces(pieceCodeBase + KING); bits != 0; bits &= bits - 1) {
+            final int source = Long.numberOfTrailingZeros(bits);
+            addMoves(moves, source, Attacks.getKingAttacks(source) & opponentOccupancy, opponentOccupancy);
+        }
+    }
+
+    private static void generatePawnMoves(
+            final BitBoards bitBoards,
+            final int colorOrdinal,
+            final int enPassantSquare,
+            final MoveList moves) {
+
+        final long pawns = bitBoards.getPieces(BitBoards.getPieceCode(colorOrdinal, PAWN));
+        final long emptySquares = ~bitBoards.getOccupancy();
+        final long opponentOccupancy = bitBoards.getOccupancy(colorOrdinal ^ 1);
+        final long jumpRank = colorOrdinal == 0 ? BitBoards.RANK_4 : BitBoards.RANK_5;
+        final int pushOffset = colorOrdinal == 0 ? Position.NUM_FILES : -Position.NUM_FILES;
+
+        final long pushes = Attacks.getPawnPushes(colorOrdinal, pawns) & emptySquares;
+        final long jumps = Attacks.getPawnPushes(colorOrdinal, pushes) & emptySquares & jumpRank;
+        final long westAttacks = Attacks.getPawnWestAttacks(colorOrdinal, pawns) & opponentOccupancy;
+        final long eastAttacks = Attacks.getPawnEastAttacks(colorOrdinal, pawns) & opponentOccupancy;
+
+        addPawnMoves(moves, pushes, pushOffset, EncodedMove.QUIET);
+        addPawnMoves(moves, westAttacks, pushOffset - 1, EncodedMove.CAPTURE);
+        addPawnMoves(moves, eastAttacks, pushOffset + 1, EncodedMove.CAPTURE);
+
+        for (long bits = jumps; bits != 0; bits &= bits - 1) {
+            final int destination = Long.numberOfTrailingZeros(bits);
+            moves.add(EncodedMove.encode(destination - 2 * pushOffset, destination, EncodedMove.PAWN_JUMP));
+        }
+
+        if (enPassantSquare < 0)
+            return;
+
+        final long enPassantAttackers = Attacks.getPawnAttacks(colorOrdinal ^ 1, enPassantSquare) & pawns;
+
+        for (long bits = enPassantAttackers; bits != 0; bits &= bits - 1)
+            moves.add(EncodedMove.encode(Long.numberOfTrailingZeros(bits), enPassantSquare, EncodedMove.EN_PASSANT));
+    }
+
+    private static void addPawnMoves(final MoveList moves, final long destinations, final int offset, final int flags) {
+        for (long bits = destinations; bits != 0; bits &= bits - 1) {
+            final int destination = Long.numberOfTrailingZeros(bits);
+            final int source = destination - offset;
+
+            if ((BitBoards.getSquareBit(destination) & (BitBoards.RANK_1 | BitBoards.RANK_8)) == 0) {
+                moves.add(EncodedMove.encode(source, destination, flags));
+                continue;
+            }
+
+            moves.add(EncodedMove.encode(source, destination, flags | EncodedMove.QUEEN_PROMOTION));
+            moves.add(EncodedMove.encode(source, destination, flags | EncodedMove.ROOK_PROMOTION));
+            moves.add(EncodedMove.encode(source, destination, flags | EncodedMove.BISHOP_PROMOTION));
+            moves.add(EncodedMove.encode(source, destination, flags | EncodedMove.KNIGHT_PROMOTION));
+        }
+    }
+
+    private static void addMoves(
+            final MoveList moves,
+            final int source,
+            final long destinations,
+            final long opponentOccupancy) {
+
+        for (long bits = destinations; bits != 0; bits &= bits - 1) {
+            final int destination = Long.numberOfTrailingZeros(bits);
+            final int flags = (opponentOccupancy & BitBoards.getSquareBit(destination)) != 0
+                    ? EncodedMove.CAPTURE
+                    : EncodedMove.QUIET;
+
+            moves.add(EncodedMove.encode(source, destination, flags));
+        }
+    }
+
+    private static void generateCastleMoves(
+            final BitBoards bitBoards,
+            final int colorOrdinal,
+            final int castlingRights,
+            final MoveList moves) {
+
+        final int kingSquare = colorOrdinal == 0 ? CastlingRights.WHITE_KING_SQUARE : CastlingRights.BLACK_KING_SQUARE;
+        final int opponentOrdinal = colorOrdinal ^ 1;
+        final long occupancy = bitBoards.getOccupancy();
+
+        final int shortRight = CastlingRights.getShortRight(colorOrdinal);
+        final int longRight = CastlingRights.getLongRight(colorOrdinal);
+
+        if ((castlingRights & (shortRight | longRight)) == 0
+                || Attacks.isSquareAttacked(bitBoards, kingSquare, opponentOrdinal))
+            return;
+
+        if ((castlingRights & shortRight) != 0
+                && (occupancy & (3L << (kingSquare + 1))) == 0
+                && Attacks.isSquareAttacked(bitBoards, kingSquare + 1, opponentOrdinal) == false
+                && Attacks.isSquareAttacked(bitBoards, kingSquare + 2, opponentOrdinal) == false)
+            moves.add(EncodedMove.encode(kingSquare, kingSquare + 2, EncodedMove.SHORT_CASTLE));
+
+        if ((castlingRights & longRight) != 0
+                && (occupancy & (7L << (kingSquare - 3))) == 0
+                && Attacks.isSquareAttacked(bitBoards, kingSquare - 1, opponentOrdinal) == false
+                && Attacks.isSquareAttacked(bitBoards, kingSquare - 2, opponentOrdinal) == false)
+            moves.add(EncodedMove.encode(kingSquare, kingSquare - 2, EncodedMove.LONG_CASTLE));
+    }
+}
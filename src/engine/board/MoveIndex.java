@@ -0,0 +1,39 @@
+package engine.board;
+
+import engine.pieces.Piece.PieceType;
+import engine.player.Player;
+
+final class MoveIndex {
+    private final Move[] moves;
+    private final long[] destinations;
+
+    MoveIndex(final Player player) {
+        this.moves = new Move[Tile.NUM_TILES * Tile.NUM_TILES];
+        this.destinations = new long[Tile.NUM_TILES];
+
+        for (final Move move : player.getLegalMoves()) {
+            final int source = move.getCurrentPosition().getTileCoordinate();
+            final int destination = move.getDestinationPosition().getTileCoordinate();
+            final int index = getIndex(source, destination);
+
+            if (this.moves[index] == null || PieceType.QUEEN.equals(move.getPromotionType()))
+                this.moves[index] = move;
+
+            this.destinations[source] |= BitBoards.getSquareBit(destination);
+        }
+    }
+
+    private static int getIndex(final int source, final int destination) {
+        return source * Tile.NUM_TILES + destination;
+    }
+
+    Move getMove(final int source, final int destination) {
+        final Move move = this.moves[getIndex(source, destination)];
+
+        return move != null ? move : Move.NULL_MOVE;
+    }
+
+    long getDestinations(final int source) {
+        return this.destinations[source];
+    }
+}
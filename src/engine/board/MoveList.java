@@ -0,0 +1,65 @@
+package engine.board;
+
+public final class MoveList {
+    public static final int MAX_MOVES = 256;
+
+    private final int[] moves;
+    private int size;
+
+    public MoveList() {
+        this(MAX_MOVES);
+    }
+
+    public MoveList(final int capacity) {
+        this.moves = new int[capacity];
+        this.size = 0;
+    }
+
+    public static MoveList[] createPlyBuffers(final int maxPly) {
+        final MoveList[] buffers = new MoveList[maxPly];
+
+        for (int ply = 0; ply < maxPly; ply++)
+            buffers[ply] = new MoveList();
+
+        return buffers;
+    }
+
+    public void add(final int move) {
+        this.moves[this.size++] = move;
+    }
+
+    public int get(final int index) {
+        return this.moves[index];
+    }
+
+    public void set(final int index, final int move) {
+        this.moves[index] = move;
+    }
+
+    public void swap(final int first, final int second) {
+        final int move = this.moves[first];
+
+        this.moves[first] = this.moves[second];
+        this.moves[second] = move;
+    }
+
+    public boolean contains(final int move) {
+        for (int i = 0; i < this.size; i++)
+            if (this.moves[i] == move)
+                return true;
+
+        return false;
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    public void clear() {
+        this.size = 0;
+    }
+}
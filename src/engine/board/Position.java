@@ -4,27 +4,49 @@ public class Position {
     public static final int NUM_RANKS = 8;
     public static final int NUM_FILES = 8;
 
+    private static final File[] FILES = File.values();
+    private static final Rank[] RANKS = Rank.values();
+    private static final Position[] POSITIONS = createPositions();
+
+    public static final Position NONE = new Position(File.NONE, Rank.NONE);
+
     public final File file;
     public final Rank rank;
 
     private final int cachedTileCoordinate;
 
-    public Position(final File file, final Rank rank) {
+    private Position(final File file, final Rank rank) {
         this.file = file;
         this.rank = rank;
         this.cachedTileCoordinate = computeTileCoordinate(this.file, this.rank);
     }
 
-    public Position(final int fileOrdinal, final int rankOrdinal) {
-        this.file = fileOrdinal < 0 || fileOrdinal >= File.values().length
-                ? File.NONE
-                : File.values()[fileOrdinal];
+    private static Position[] createPositions() {
+        final Position[] positions = new Position[NUM_RANKS * NUM_FILES];
 
-        this.rank = rankOrdinal < 0 || rankOrdinal >= Rank.values().length
-                ? Rank.NONE
-                : Rank.values()[rankOrdinal];
+        for (int rankOrdinal = 0; rankOrdinal < NUM_RANKS; rankOrdinal++)
+            for (int fileOrdinal = 0; fileOrdinal < NUM_FILES; fileOrdinal++)
+                positions[getTileCoordinate(fileOrdinal, rankOrdinal)] = new Position(
+                        FILES[fileOrdinal],
+                        RANKS[rankOrdinal]);
 
-        this.cachedTileCoordinate = computeTileCoordinate(this.file, this.rank);
+        return positions;
+    }
+
+    public static Position of(final File file, final Rank rank) {
+        return file == File.NONE || rank == Rank.NONE
+                ? NONE
+                : POSITIONS[getTileCoordinate(file.ordinal(), rank.ordinal())];
+    }
+
+    public static Position of(final int fileOrdinal, final int rankOrdinal) {
+        return fileOrdinal < 0 || fileOrdinal >= NUM_FILES || rankOrdinal < 0 || rankOrdinal >= NUM_RANKS
+                ? NONE
+                : POSITIONS[getTileCoordinate(fileOrdinal, rankOrdinal)];
+    }
+
+    public static Position of(final int tileCoordinate) {
+        return tileCoordinate < 0 || tileCoordinate >= POSITIONS.length ? NONE : POSITIONS[tileCoordinate];
     }
 
     private static int computeTileCoordinate(final File file, final Rank rank) {
@@ -38,7 +60,7 @@ public class Position {
     }
 
     public boolean isValid() {
-        return this.file.equals(File.NONE) == false && this.rank.equals(Rank.NONE) == false;
+        return this != NONE;
     }
 
     public int getTileCoordinate() {
@@ -57,15 +79,7 @@ public class Position {
 
     @Override
     public boolean equals(final Object other) {
-        if (this == other)
-            return true;
-
-        if (other instanceof Position == false)
-            return false;
-
-        Position otherPosition = (Position) other;
-
-        return this.file.equals(otherPosition.file) && this.rank.equals(otherPosition.rank);
+        return this == other;
     }
 
     public enum File {
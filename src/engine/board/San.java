@@ -0,0 +1,297 @@
+package engine.board;
+
+import engine.Color;
+import engine.board.Move.MoveFactory;
+import engine.pieces.Piece.PieceType;
+
+public final class San {
+    public static final String SHORT_CASTLE = "O-O";
+    public static final String LONG_CASTLE = "O-O-O";
+    public static final String NULL_MOVE = "--";
+
+    private static final String PIECE_LETTERS = "PNBRQK";
+    private static final PieceType[] PIECE_TYPES = PieceType.values();
+
+    private San() {
+        throw new RuntimeException("San cannot be instantiated");
+    }
+
+    public static Move parse(final Board board, final CharSequence san) {
+        return parse(board, san, 0, san.length());
+    }
+
+    public static Move parse(final Board board, final CharSequence san, final int start, int end) {
+        while (end > start && isSuffix(san.charAt(end - 1)))
+            end--;
+
+        if (end - start < 2)
+            return Move.NULL_MOVE;
+
+        final Color color = board.getMoveMaker();
+        final char first = san.charAt(start);
+
+        if (first == 'O' || first == '0') {
+            final int kingSquare = board.getKingSquare(color);
+
+            if (kingSquare >= Tile.NUM_TILES || isCastling(san, start, end, first) == false)
+                return Move.NULL_MOVE;
+
+            final int destination = kingSquare + (end - start == LONG_CASTLE.length() ? -2 : 2);
+
+            return destination >= 0 && destination < Tile.NUM_TILES
+                    ? board.getLegalMove(Position.of(kingSquare), Position.of(destination))
+                    : Move.NULL_MOVE;
+        }
+
+        PieceType promotionType = null;
+        final int promotionIndex = PIECE_LETTERS.indexOf(Character.toUpperCase(san.charAt(end - 1)));
+
+        if (promotionIndex > PieceType.PAWN.ordinal() && promotionIndex < PieceType.KING.ordinal()) {
+            promotionType = PIECE_TYPES[promotionIndex];
+            end--;
+
+            if (end > start && san.charAt(end - 1) == '=')
+                end--;
+        }
+
+        if (end - start < 2)
+            return Move.NULL_MOVE;
+
+        final int destination = parseSquare(san.charAt(end - 2), san.charAt(end - 1));
+
+        if (destination < 0)
+            return Move.NULL_MOVE;
+
+        final int pieceIndex = PIECE_LETTERS.indexOf(first);
+        final PieceType type = pieceIndex >= 0 ? PIECE_TYPES[pieceIndex] : PieceType.PAWN;
+        int sourceFile = -1;
+        int sourceRank = -1;
+
+        for (int i = pieceIndex >= 0 ? start + 1 : start; i < end - 2; i++) {
+            final char c = san.charAt(i);
+
+            if (c >= 'a' && c <= 'h')
+                sourceFile = c - 'a';
+            else if (c >= '1' && c <= '8')
+                sourceRank = c - '1';
+            else if (c != 'x' && c != ':' && c != '-')
+                return Move.NULL_MOVE;
+        }
+
+        final BitBoards bitBoards = board.getBitBoards();
+        final long destinationBit = BitBoards.getSquareBit(destination);
+        int source = -1;
+
+        for (long pieces = bitBoards.getPieces(color, type); pieces != 0; pieces &= pieces - 1) {
+            final int square = Long.numberOfTrailingZeros(pieces);
+
+            if ((sourceFile >= 0 && square % Position.NUM_FILES != sourceFile)
+                    || (sourceRank >= 0 && square / Position.NUM_FILES != sourceRank))
+                continue;
+
+            if ((board.getLegalDestinations(Position.of(square)) & destinationBit) == 0)
+                continue;
+
+            if (source >= 0)
+                return Move.NULL_MOVE;
+
+            source = square;
+        }
+
+        if (source < 0)
+            return Move.NULL_MOVE;
+
+        if (promotionType != null) {
+            if (type.equals(PieceType.PAWN) == false)
+                return Move.NULL_MOVE;
+
+            final int captureFlag = bitBoards.getPieceCode(destination) == BitBoards.NO_PIECE
+                    ? EncodedMove.QUIET
+                    : EncodedMove.CAPTURE;
+
+            return MoveFactory.create(
+                    board,
+                    EncodedMove.encode(
+                            source,
+                            destination,
+                            EncodedMove.PROMOTION
+                                    | (promotionType.ordinal() - PieceType.KNIGHT.ordinal())
+                                    | captureFlag));
+        }
+
+        return board.getLegalMove(Position.of(source), Position.of(destination));
+    }
+
+    public static String toSan(final Board board, final Move move) {
+        return toSan(board, move, new StringBuilder(8)).toString();
+    }
+
+    public static StringBuilder toSan(final Board board, final Move move, final StringBuilder san) {
+        if (move == Move.NULL_MOVE)
+            return san.append(NULL_MOVE);
+
+        final int source = move.getCurrentPosition().getTileCoordinate();
+        final int destination = move.getDestinationPosition().getTileCoordinate();
+        final PieceType type = move.getMovedPiece().getPieceType();
+
+        if (move.isCastlingMove()) {
+            san.append(destination > source ? SHORT_CASTLE : LONG_CASTLE);
+        } else {
+            if (type.equals(PieceType.PAWN)) {
+                if (move.isAttackMove())
+                    san.append((char) ('a' + source % Position.NUM_FILES));
+            } else {
+                san.append(type.getPieceChar());
+
+                if (type.equals(PieceType.KING) == false)
+                    appendDisambiguation(board, move.getMovedPiece().getColor(), type, source, destination, san);
+            }
+
+            if (move.isAttackMove())
+                san.append('x');
+
+            appendSquare(destination, san);
+
+            if (move.isPromotionMove())
+                san.append('=').append(move.getPromotionType().getPieceChar());
+        }
+
+        if (givesCheck(board, move, source, destination, type))
+            san.append(move.execute().getCurrentPlayer().hasEscapeMoves() ? '+' : '#');
+
+        return san;
+    }
+
+    private static void appendDisambiguation(
+            final Board board,
+            final Color color,
+            final PieceType type,
+            final int source,
+            final int destination,
+            final StringBuilder san) {
+
+        final long destinationBit = BitBoards.getSquareBit(destination);
+        final long others = board.getBitBoards().getPieces(color, type) & ~BitBoards.getSquareBit(source);
+        boolean isAmbiguous = false;
+        boolean sharesFile = false;
+        boolean sharesRank = false;
+
+        for (long pieces = others; pieces != 0; pieces &= pieces - 1) {
+            final int square = Long.numberOfTrailingZeros(pieces);
+
+            if ((board.getLegalDestinations(Position.of(square)) & destinationBit) == 0)
+                continue;
+
+            isAmbiguous = true;
+            sharesFile |= square % Position.NUM_FILES == source % Position.NUM_FILES;
+            sharesRank |= square / Position.NUM_FILES == source / Position.NUM_FILES;
+        }
+
+        if (isAmbiguous == false)
+            return;
+
+        if (sharesFile == false) {
+            san.append((char) ('a' + source % Position.NUM_FILES));
+        } else if (sharesRank == false) {
+            san.append((char) ('1' + source / Position.NUM_FILES));
+        } else {
+            appendSquare(source, san);
+        }
+    }
+
+    private static boolean givesCheck(
+            final Board board,
+            final Move move,
+            final int source,
+            final int destination,
+            final PieceType type) {
+
+        final BitBoards bitBoards = board.getBitBoards();
+        final Color color = move.getMovedPiece().getColor();
+        final long kings = bitBoards.getPieces(color.getOpposite(), PieceType.KING);
+
+        if (kings == BitBoards.EMPTY)
+            return false;
+
+        final int kingSquare = Long.numberOfTrailingZeros(kings);
+        final long kingBit = BitBoards.getSquareBit(kingSquare);
+        long movers = BitBoards.getSquareBit(source);
+        long occupancy = (bitBoards.getOccupancy() & ~movers) | BitBoards.getSquareBit(destination);
+
+        if (move instanceof Move.PawnEnPassantAttackMove)
+            occupancy &= ~BitBoards.getSquareBit(move.getAttackedPiece().getPosition().getTileCoordinate());
+
+        if (move.isCastlingMove()) {
+            final int rookSource = destination > source ? destination + 1 : destination - 2;
+            final int rookDestination = destination > source ? destination - 1 : destination + 1;
+
+            movers |= BitBoards.getSquareBit(rookSource);
+            occupancy = (occupancy & ~BitBoards.getSquareBit(rookSource)) | BitBoards.getSquareBit(rookDestination);
+
+            if ((Attacks.getRookAttacks(rookDestination, occupancy) & kingBit) != 0)
+                return true;
+        }
+
+        final PieceType checkingType = move.isPromotionMove() ? move.getPromotionType() : type;
+
+        if ((getAttacks(checkingType, color, destination, occupancy) & kingBit) != 0)
+            return true;
+
+        final long queens = bitBoards.getPieces(color, PieceType.QUEEN);
+        final long diagonalSliders = (bitBoards.getPieces(color, PieceType.BISHOP) | queens) & ~movers;
+        final long straightSliders = (bitBoards.getPieces(color, PieceType.ROOK) | queens) & ~movers;
+
+        return (Attacks.getBishopAttacks(kingSquare, occupancy) & diagonalSliders) != 0
+                || (Attacks.getRookAttacks(kingSquare, occupancy) & straightSliders) != 0;
+    }
+
+    private static long getAttacks(
+            final PieceType type,
+            final Color color,
+            final int square,
+            final long occupancy) {
+
+        switch (type) {
+            case PAWN:
+                return Attacks.getPawnAttacks(color.ordinal(), square);
+            case KNIGHT:
+                return Attacks.getKnightAttacks(square);
+            case BISHOP:
+                return Attacks.getBishopAttacks(square, occupancy);
+            case ROOK:
+                return Attacks.getRookAttacks(square, occupancy);
+            case QUEEN:
+                return Attacks.getQueenAttacks(square, occupancy);
+            default:
+                return BitBoards.EMPTY;
+        }
+    }
+
+    private static boolean isCastling(final CharSequence san, final int start, final int end, final char castle) {
+        final int length = end - start;
+
+        if (length != SHORT_CASTLE.length() && length != LONG_CASTLE.length())
+            return false;
+
+        for (int i = start; i < end; i++)
+            if (san.charAt(i) != ((i - start) % 2 == 0 ? castle : '-'))
+                return false;
+
+        return true;
+    }
+
+    private static boolean isSuffix(final char c) {
+        return c == '+' || c == '#' || c == '!' || c == '?';
+    }
+
+    private static int parseSquare(final char file, final char rank) {
+        if (file < 'a' || file > 'h' || rank < '1' || rank > '8')
+            return -1;
+
+        return (rank - '1') * Position.NUM_FILES + (file - 'a');
+    }
+
+    private static void appendSquare(final int square, final StringBuilder san) {
+        san.append((char) ('a' + square % Position.NUM_FILES)).append((char) ('1' + square / Position.NUM_FILES));
+    }
+}
@@ -0,0 +1,217 @@
+package engine.board;
+
+import engine.pieces.Piece.PieceType;
+
+public final class SearchBoard {
+    public static final int MAX_GAME_PLY = 1024;
+
+    private static final int PAWN = PieceType.PAWN.ordinal();
+    private static final int ROOK = PieceType.ROOK.ordinal();
+    private static final int KING = PieceType.KING.ordinal();
+
+    private static final int CAPTURED_MASK = 0xF;
+    private static final int CASTLING_SHIFT = 4;
+    private static final int CASTLING_MASK = 0xF;
+    private static final int EN_PASSANT_SHIFT = 8;
+    private static final int EN_PASSANT_MASK = 0x7F;
+    private static final int HALF_MOVE_SHIFT = 15;
+
+    private final BitBoards bitBoards;
+    private final int[] moveStack;
+    private final int[] undoStack;
+    private final long[] keyStack;
+
+    private int colorOrdinal;
+    private int castlingRights;
+    private int enPassantSquare;
+    private int halfMoveClock;
+    private int ply;
+    private long zobristKey;
+
+    public SearchBoard(final Board board) {
+        this.bitBoards = new BitBoards(board.getBitBoards());
+        this.moveStack = new int[MAX_GAME_PLY];
+        this.undoStack = new int[MAX_GAME_PLY];
+        this.keyStack = new long[MAX_GAME_PLY];
+        this.colorOrdinal = board.getMoveMaker().ordinal();
+        this.castlingRights = board.getCastlingRights();
+        this.enPassantSquare = board.getEnPassantSquare();
+        this.halfMoveClock = board.getHalfMoveClock();
+        this.ply = 0;
+        this.zobristKey = board.getZobristKey();
+    }
+
+    public void generateMoves(final MoveList moves) {
+        MoveGenerator.generateMoves(
+                this.bitBoards,
+                this.colorOrdinal,
+                this.castlingRights,
+                this.enPassantSquare,
+                moves);
+    }
+
+    public void generateLegalMoves(final MoveList moves) {
+        MoveGenerator.generateLegalMoves(
+                this.bitBoards,
+                this.colorOrdinal,
+                this.castlingRights,
+                this.enPassantSquare,
+                moves);
+    }
+
+    public void generateCaptures(final MoveList moves) {
+        MoveGenerator.generateCaptures(this.bitBoards, this.colorOrdinal, this.enPassantSquare, moves);
+    }
+
+    public boolean makeMove(final int move) {
+        final int source = EncodedMove.getSource(move);
+        final int destination = EncodedMove.getDestination(move);
+        final int flags = EncodedMove.getFlags(move);
+        final int movedPiece = this.bitBoards.getPieceCode(source);
+        final int pushOffset = this.colorOrdinal == 0 ? Position.NUM_FILES : -Position.NUM_FILES;
+
+        final long nextZobristKey = Zobrist.updateKey(
+                this.zobristKey,
+                this.bitBoards,
+                move,
+                this.castlingRights,
+                this.enPassantSquare);
+
+        int capturedPiece = BitBoards.NO_PIECE;
+
+        if (flags == EncodedMove.EN_PASSANT) {
+            capturedPiece = this.bitBoards.getPieceCode(destination - pushOffset);
+            this.bitBoards.remove(destination - pushOffset);
+        } else if (EncodedMove.isCapture(move)) {
+            capturedPiece = this.bitBoards.getPieceCode(destination);
+            this.bitBoards.remove(destination);
+        }
+
+        this.moveStack[this.ply] = move;
+        this.undoStack[this.ply] = (capturedPiece + 1)
+                | this.castlingRights << CASTLING_SHIFT
+                | (this.enPassantSquare + 1) << EN_PASSANT_SHIFT
+                | this.halfMoveClock << HALF_MOVE_SHIFT;
+        this.keyStack[this.ply] = this.zobristKey;
+        this.ply++;
+
+        this.bitBoards.remove(source);
+        this.bitBoards.put(
+                destination,
+                EncodedMove.isPromotion(move)
+                        ? BitBoards.getPieceCode(this.colorOrdinal, EncodedMove.getPromotionTypeOrdinal(move))
+                        : movedPiece);
+
+        if (flags == EncodedMove.SHORT_CASTLE)
+            moveRook(source + 3, source + 1);
+        else if (flags == EncodedMove.LONG_CASTLE)
+            moveRook(source - 4, source - 1);
+
+        this.enPassantSquare = flags == EncodedMove.PAWN_JUMP ? source + pushOffset : -1;
+        this.halfMoveClock = capturedPiece != BitBoards.NO_PIECE || BitBoards.getTypeOrdinal(movedPiece) == PAWN
+                ? 0
+                : this.halfMoveClock + 1;
+        this.castlingRights = CastlingRights.update(this.castlingRights, source, destination);
+        this.colorOrdinal ^= 1;
+        this.zobristKey = nextZobristKey;
+
+        if (Attacks.isSquareAttacked(this.bitBoards, getKingSquare(this.colorOrdinal ^ 1), this.colorOrdinal)) {
+            unmakeMove();
+            return false;
+        }
+
+        return true;
+    }
+
+    public void unmakeMove() {
+        this.ply--;
+
+        final int move = this.moveStack[this.ply];
+        final int undo = this.undoStack[this.ply];
+        final int source = EncodedMove.getSource(move);
+        final int destination = EncodedMove.getDestination(move);
+        final int flags = EncodedMove.getFlags(move);
+        final int capturedPiece = (undo & CAPTURED_MASK) - 1;
+
+        this.colorOrdinal ^= 1;
+
+        final int movedPiece = EncodedMove.isPromotion(move)
+                ? BitBoards.getPieceCode(this.colorOrdinal, PAWN)
+                : this.bitBoards.getPieceCode(destination);
+
+        this.bitBoards.remove(destination);
+        this.bitBoards.put(source, movedPiece);
+
+        if (flags == EncodedMove.SHORT_CASTLE)
+            moveRook(source + 1, source + 3);
+        else if (flags == EncodedMove.LONG_CASTLE)
+            moveRook(source - 1, source - 4);
+
+        if (capturedPiece != BitBoards.NO_PIECE)
+            this.bitBoards.put(
+                    flags == EncodedMove.EN_PASSANT
+                            ? destination + (this.colorOrdinal == 0 ? -Position.NUM_FILES : Position.NUM_FILES)
+                            : destination,
+                    capturedPiece);
+
+        this.castlingRights = (undo >>> CASTLING_SHIFT) & CASTLING_MASK;
+        this.enPassantSquare = ((undo >>> EN_PASSANT_SHIFT) & EN_PASSANT_MASK) - 1;
+        this.halfMoveClock = undo >>> HALF_MOVE_SHIFT;
+        this.zobristKey = this.keyStack[this.ply];
+    }
+
+    private void moveRook(final int source, final int destination) {
+        this.bitBoards.remove(source);
+        this.bitBoards.put(destination, BitBoards.getPieceCode(this.colorOrdinal, ROOK));
+    }
+
+    public boolean isRepetition() {
+        final int earliestPly = Math.max(0, this.ply - this.halfMoveClock);
+
+        for (int i = this.ply - 2; i >= earliestPly; i -= 2)
+            if (this.keyStack[i] == this.zobristKey)
+                return true;
+
+        return false;
+    }
+
+    public boolean isInCheck() {
+        return Attacks.isSquareAttacked(this.bitBoards, getKingSquare(this.colorOrdinal), this.colorOrdinal ^ 1);
+    }
+
+    public int getKingSquare(final int colorOrdinal) {
+        return Long.numberOfTrailingZeros(this.bitBoards.getPieces(BitBoards.getPieceCode(colorOrdinal, KING)));
+    }
+
+    public int getLastMove() {
+        return this.ply > 0 ? this.moveStack[this.ply - 1] : EncodedMove.NONE;
+    }
+
+    public long getZobristKey() {
+        return this.zobristKey;
+    }
+
+    public BitBoards getBitBoards() {
+        return this.bitBoards;
+    }
+
+    public int getColorOrdinal() {
+        return this.colorOrdinal;
+    }
+
+    public int getCastlingRights() {
+        return this.castlingRights;
+    }
+
+    public int getEnPassantSquare() {
+        return this.enPassantSquare;
+    }
+
+    public int getHalfMoveClock() {
+        return this.halfMoveClock;
+    }
+
+    public int getPly() {
+        return this.ply;
+    }
+}
@@ -1,16 +1,11 @@
 package engine.board;
 
-import java.util.HashMap;
-import java.util.Map;
-
 import engine.Color;
-import engine.board.Position.File;
-import engine.board.Position.Rank;
 import engine.pieces.Piece;
 
 public abstract class Tile {
     public static final int NUM_TILES = Position.NUM_RANKS * Position.NUM_FILES;
-    private static final Map<Position, EmptyTile> EMPTY_TILES_CACHE = createAllEmptyTiles();
+    private static final EmptyTile[] EMPTY_TILES_CACHE = createAllEmptyTiles();
 
     protected final Position position;
 
@@ -18,15 +13,11 @@ public abstract class Tile {
         this.position = position;
     }
 
-    private static Map<Position, EmptyTile> createAllEmptyTiles() {
-        final Map<Position, EmptyTile> emptyTiles = new HashMap<>();
-
-        for (int rankOrdinal = Rank.FIRST.ordinal(); rankOrdinal <= Rank.EIGHTH.ordinal(); rankOrdinal++)
-            for (int fileOrdinal = File.A.ordinal(); fileOrdinal <= File.H.ordinal(); fileOrdinal++) {
-                Position p = new Position(fileOrdinal, rankOrdinal);
+    private static EmptyTile[] createAllEmptyTiles() {
+        final EmptyTile[] emptyTiles = new EmptyTile[NUM_TILES];
 
-                emptyTiles.put(p, new EmptyTile(p));
-            }
+        for (int tileCoordinate = 0; tileCoordinate < NUM_TILES; tileCoordinate++)
+            emptyTiles[tileCoordinate] = new EmptyTile(Position.of(tileCoordinate));
 
         return emptyTiles;
     }
@@ -36,7 +27,7 @@ public abstract class Tile {
     }
 
     public static Tile createTile(final Position position, final Piece piece) {
-        return piece != null ? new OccupiedTile(position, piece) : EMPTY_TILES_CACHE.get(position);
+        return piece != null ? new OccupiedTile(position, piece) : EMPTY_TILES_CACHE[position.getTileCoordinate()];
     }
 
     public Position getPosition() {
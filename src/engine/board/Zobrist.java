@@ -0,0 +1,104 @@
+package engine.board;
+
+import java.util.SplittableRandom;
+
+import engine.pieces.Piece.PieceType;
+
+public final class Zobrist {
+    private static final long SEED = 0x5EED_C4E5_5B0A_2D17L;
+
+    private static final long[][] PIECE_KEYS = new long[BitBoards.NUM_PIECE_CODES][Tile.NUM_TILES];
+    private static final long[] CASTLING_KEYS = new long[CastlingRights.ALL + 1];
+    private static final long[] EN_PASSANT_KEYS = new long[Position.NUM_FILES];
+    private static final long SIDE_KEY;
+
+    static {
+        final SplittableRandom random = new SplittableRandom(SEED);
+
+        for (final long[] pieceKeys : PIECE_KEYS)
+            for (int square = 0; square < Tile.NUM_TILES; square++)
+                pieceKeys[square] = random.nextLong();
+
+        for (int castlingRights = CastlingRights.NONE + 1; castlingRights <= CastlingRights.ALL; castlingRights++)
+            CASTLING_KEYS[castlingRights] = random.nextLong();
+
+        for (int file = 0; file < Position.NUM_FILES; file++)
+            EN_PASSANT_KEYS[file] = random.nextLong();
+
+        SIDE_KEY = random.nextLong();
+    }
+
+    private Zobrist() {
+        throw new RuntimeException("Zobrist cannot be instantiated");
+    }
+
+    public static long calculateKey(
+            final BitBoards bitBoards,
+            final int colorOrdinal,
+            final int castlingRights,
+            final int enPassantSquare) {
+
+        long key = 0L;
+
+        for (long bits = bitBoards.getOccupancy(); bits != 0; bits &= bits - 1) {
+            final int square = Long.numberOfTrailingZeros(bits);
+            key ^= PIECE_KEYS[bitBoards.getPieceCode(square)][square];
+        }
+
+        key ^= CASTLING_KEYS[castlingRights];
+
+        if (enPassantSquare >= 0)
+            key ^= EN_PASSANT_KEYS[enPassantSquare % Position.NUM_FILES];
+
+        if (colorOrdinal != 0)
+            key ^= SIDE_KEY;
+
+        return key;
+    }
+
+    public static long updateKey(
+            final long key,
+            final BitBoards bitBoards,
+            final int move,
+            final int castlingRights,
+            final int enPassantSquare) {
+
+        final int source = EncodedMove.getSource(move);
+        final int destination = EncodedMove.getDestination(move);
+        final int flags = EncodedMove.getFlags(move);
+        final int movedPiece = bitBoards.getPieceCode(source);
+        final int colorOrdinal = BitBoards.getColorOrdinal(movedPiece);
+        final int placedPiece = EncodedMove.isPromotion(move)
+                ? BitBoards.getPieceCode(colorOrdinal, EncodedMove.getPromotionTypeOrdinal(move))
+                : movedPiece;
+
+        long updatedKey = key ^ SIDE_KEY ^ PIECE_KEYS[movedPiece][source] ^ PIECE_KEYS[placedPiece][destination];
+
+        if (flags == EncodedMove.EN_PASSANT) {
+            final int capturedSquare = destination + (colorOrdinal == 0 ? -Position.NUM_FILES : Position.NUM_FILES);
+            final int capturedPawn = BitBoards.getPieceCode(colorOrdinal ^ 1, PieceType.PAWN.ordinal());
+
+            updatedKey ^= PIECE_KEYS[capturedPawn][capturedSquare];
+        } else if (EncodedMove.isCapture(move)) {
+            updatedKey ^= PIECE_KEYS[bitBoards.getPieceCode(destination)][destination];
+        }
+
+        final long[] rookKeys = PIECE_KEYS[BitBoards.getPieceCode(colorOrdinal, PieceType.ROOK.ordinal())];
+
+        if (flags == EncodedMove.SHORT_CASTLE)
+            updatedKey ^= rookKeys[source + 3] ^ rookKeys[source + 1];
+        else if (flags == EncodedMove.LONG_CASTLE)
+            updatedKey ^= rookKeys[source - 4] ^ rookKeys[source - 1];
+
+        updatedKey ^= CASTLING_KEYS[castlingRights]
+                ^ CASTLING_KEYS[CastlingRights.update(castlingRights, source, destination)];
+
+        if (enPassantSquare >= 0)
+            updatedKey ^= EN_PASSANT_KEYS[enPassantSquare % Position.NUM_FILES];
+
+        if (flags == EncodedMove.PAWN_JUMP)
+            updatedKey ^= EN_PASSANT_KEYS[source % Position.NUM_FILES];
+
+        return updatedKey;
+    }
+}
@@ -0,0 +1,161 @@
+package engine.book;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ThreadLocalRandom;
+
+import engine.board.BitBoards;
+import engine.board.Board;
+import engine.board.CastlingRights;
+import engine.board.EncodedMove;
+import engine.board.Move;
+import engine.board.Position;
+import engine.board.Move.MoveFactory;
+import engine.pieces.Piece.PieceType;
+
+public final class PolyglotBook {
+    private static final int ENTRY_SIZE = 16;
+    private static final int MOVE_OFFSET = 8;
+    private static final int WEIGHT_OFFSET = 10;
+    private static final int SQUARE_MASK = 0x3F;
+    private static final int FILE_MASK = 0x7;
+    private static final int PROMOTION_SHIFT = 12;
+
+    private final MappedByteBuffer entries;
+    private final int entryCount;
+    private final PolyglotKey keys;
+
+    public PolyglotBook(final Path path, final PolyglotKey keys) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            final long size = channel.size();
+
+            if (size % ENTRY_SIZE != 0 || size > Integer.MAX_VALUE)
+                throw new IllegalArgumentException("Invalid Polyglot book size " + size + ": " + path);
+
+            this.entries = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            this.entryCount = (int) (size / ENTRY_SIZE);
+            this.keys = keys;
+        }
+    }
+
+    public int getEntryCount() {
+        return this.entryCount;
+    }
+
+    public PolyglotKey getKeys() {
+        return this.keys;
+    }
+
+    public boolean contains(final Board board) {
+        final long key = this.keys.calculateKey(board);
+        final int first = findFirst(key);
+
+        return first < this.entryCount && getKey(first) == key;
+    }
+
+    public Move getBestMove(final Board board) {
+        final long key = this.keys.calculateKey(board);
+        int bestEntry = -1;
+        int bestWeight = 0;
+
+        for (int entry = findFirst(key); entry < this.entryCount && getKey(entry) == key; entry++) {
+            final int weight = getWeight(entry);
+
+            if (weight > bestWeight) {
+                bestWeight = weight;
+                bestEntry = entry;
+            }
+        }
+
+        return bestEntry < 0 ? Move.NULL_MOVE : toMove(board, getMove(bestEntry));
+    }
+
+    public Move selectMove(final Board board) {
+        final long key = this.keys.calculateKey(board);
+        final int first = findFirst(key);
+        int totalWeight = 0;
+        int last = first;
+
+        for (; last < this.entryCount && getKey(last) == key; last++)
+            totalWeight += getWeight(last);
+
+        if (totalWeight == 0)
+            return Move.NULL_MOVE;
+
+        int target = ThreadLocalRandom.current().nextInt(totalWeight);
+
+        for (int entry = first; entry < last; entry++) {
+            target -= getWeight(entry);
+
+            if (target < 0)
+                return toMove(board, getMove(entry));
+        }
+
+        return Move.NULL_MOVE;
+    }
+
+    private int findFirst(final long key) {
+        int low = 0;
+        int high = this.entryCount;
+
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+
+            if (Long.compareUnsigned(getKey(middle), key) < 0)
+                low = middle + 1;
+            else
+                high = middle;
+        }
+
+        return low;
+    }
+
+    private long getKey(final int entry) {
+        return this.entries.getLong(entry * ENTRY_SIZE);
+    }
+
+    private int getMove(final int entry) {
+        return this.entries.getShort(entry * ENTRY_SIZE + MOVE_OFFSET) & 0xFFFF;
+    }
+
+    private int getWeight(final int entry) {
+        return this.entries.getShort(entry * ENTRY_SIZE + WEIGHT_OFFSET) & 0xFFFF;
+    }
+
+    private static Move toMove(final Board board, final int bookMove) {
+        final int destination = bookMove & SQUARE_MASK;
+        final int source = (bookMove >>> 6) & SQUARE_MASK;
+        final int promotion = (bookMove >>> PROMOTION_SHIFT) & FILE_MASK;
+        final BitBoards bitBoards = board.getBitBoards();
+        final int movedPiece = bitBoards.getPieceCode(source);
+
+        if (movedPiece == BitBoards.NO_PIECE)
+            return Move.NULL_MOVE;
+
+        if (BitBoards.getTypeOrdinal(movedPiece) == PieceType.KING.ordinal()
+                && (source == CastlingRights.WHITE_KING_SQUARE || source == CastlingRights.BLACK_KING_SQUARE)
+                && bitBoards.getPieceCode(destination) == BitBoards.getPieceCode(
+                        BitBoards.getColorOrdinal(movedPiece),
+                        PieceType.ROOK.ordinal())) {
+
+            return MoveFactory.create(
+                    board,
+                    Position.of(source),
+                    Position.of(source + (destination > source ? 2 : -2)));
+        }
+
+        if (promotion == 0)
+            return MoveFactory.create(board, Position.of(source), Position.of(destination));
+
+        final int captureFlag = bitBoards.getPieceCode(destination) == BitBoards.NO_PIECE
+                ? EncodedMove.QUIET
+                : EncodedMove.CAPTURE;
+
+        return MoveFactory.create(
+                board,
+                EncodedMove.encode(source, destination, EncodedMove.PROMOTION | (promotion - 1) | captureFlag));
+    }
+}
@@ -0,0 +1,140 @@
+package engine.book;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import engine.Color;
+import engine.board.Attacks;
+import engine.board.BitBoards;
+import engine.board.Board;
+import engine.board.CastlingRights;
+import engine.board.Fen;
+import engine.board.Position;
+import engine.board.Tile;
+import engine.pieces.Piece.PieceType;
+
+public final class PolyglotKey {
+    public static final int RANDOM_COUNT = 781;
+    public static final long START_POSITION_KEY = 0x463B96181691FC9CL;
+
+    private static final String AFTER_E4_FEN = "rnbqkbnr/pppppppp/8/8/4P3/8/PPPP1PPP/RNBQKBNR b KQkq e3 0 1";
+    private static final long AFTER_E4_KEY = 0x823C9B50FD114196L;
+
+    private static final int CASTLING_OFFSET = 768;
+    private static final int EN_PASSANT_OFFSET = 772;
+    private static final int TURN_OFFSET = 780;
+    private static final String HEX_PREFIX = "0x";
+    private static final int HEX_DIGITS = 2 * Long.BYTES;
+    private static final int[] CASTLING_RIGHTS = {
+            CastlingRights.WHITE_SHORT,
+            CastlingRights.WHITE_LONG,
+            CastlingRights.BLACK_SHORT,
+            CastlingRights.BLACK_LONG
+    };
+
+    private final long[] random64;
+
+    public PolyglotKey(final long[] random64) {
+        if (random64.length != RANDOM_COUNT)
+            throw new IllegalArgumentException(
+                    "Polyglot random table must have " + RANDOM_COUNT + " entries: " + random64.length);
+
+        this.random64 = random64.clone();
+
+        if (calculateKey(Board.createStandardBoard()) != START_POSITION_KEY
+                || calculateKey(Fen.createBoard(AFTER_E4_FEN)) != AFTER_E4_KEY)
+            throw new IllegalArgumentException("Not the standard Polyglot random table");
+    }
+
+    public static PolyglotKey load(final Path path) throws IOException {
+        final byte[] bytes = Files.readAllBytes(path);
+
+        if (bytes.length != RANDOM_COUNT * Long.BYTES)
+            return new PolyglotKey(parse(new String(bytes, StandardCharsets.US_ASCII), path));
+
+        final long[] random64 = new long[RANDOM_COUNT];
+        ByteBuffer.wrap(bytes).asLongBuffer().get(random64);
+
+        return new PolyglotKey(random64);
+    }
+
+    private static long[] parse(final String text, final Path path) {
+        final long[] random64 = new long[RANDOM_COUNT];
+        int count = 0;
+
+        for (int i = text.indexOf(HEX_PREFIX); i >= 0; i = text.indexOf(HEX_PREFIX, i + HEX_PREFIX.length())) {
+            final int start = i + HEX_PREFIX.length();
+            final int end = start + HEX_DIGITS;
+
+            if (isHexNumber(text, start, end) == false)
+                continue;
+
+            if (count == RANDOM_COUNT)
+                throw new IllegalArgumentException(
+                        "Polyglot random table has more than " + RANDOM_COUNT + " entries: " + path);
+
+            random64[count++] = Long.parseUnsignedLong(text, start, end, 16);
+        }
+
+        if (count != RANDOM_COUNT)
+            throw new IllegalArgumentException(
+                    "Polyglot random table must have " + RANDOM_COUNT + " entries: " + count + " in " + path);
+
+        return random64;
+    }
+
+    private static boolean isHexNumber(final String text, final int start, final int end) {
+        if (end > text.length() || (end < text.length() && Character.digit(text.charAt(end), 16) >= 0))
+            return false;
+
+        for (int i = start; i < end; i++)
+            if (Character.digit(text.charAt(i), 16) < 0)
+                return false;
+
+        return true;
+    }
+
+    public long calculateKey(final Board board) {
+        final BitBoards bitBoards = board.getBitBoards();
+        final long[] random64 = this.random64;
+        long key = 0;
+
+        for (long occupancy = bitBoards.getOccupancy(); occupancy != 0; occupancy &= occupancy - 1) {
+            final int square = Long.numberOfTrailingZeros(occupancy);
+            final int pieceCode = bitBoards.getPieceCode(square);
+            final int kind = 2 * BitBoards.getTypeOrdinal(pieceCode)
+                    + (BitBoards.getColorOrdinal(pieceCode) == Color.WHITE.ordinal() ? 1 : 0);
+
+            key ^= random64[kind * Tile.NUM_TILES + square];
+        }
+
+        final int castlingRights = board.getCastlingRights();
+
+        for (int i = 0; i < CASTLING_RIGHTS.length; i++)
+            if ((castlingRights & CASTLING_RIGHTS[i]) != 0)
+                key ^= random64[CASTLING_OFFSET + i];
+
+        final int enPassantSquare = board.getEnPassantSquare();
+
+        if (enPassantSquare >= 0 && isEnPassantCapturable(bitBoards, board.getMoveMaker(), enPassantSquare))
+            key ^= random64[EN_PASSANT_OFFSET + enPassantSquare % Position.NUM_FILES];
+
+        if (board.getMoveMaker().equals(Color.WHITE))
+            key ^= random64[TURN_OFFSET];
+
+        return key;
+    }
+
+    private static boolean isEnPassantCapturable(
+            final BitBoards bitBoards,
+            final Color moveMaker,
+            final int enPassantSquare) {
+
+        final long pawns = bitBoards.getPieces(moveMaker, PieceType.PAWN);
+
+        return (Attacks.getPawnAttacks(moveMaker.getOpposite().ordinal(), enPassantSquare) & pawns) != 0;
+    }
+}
@@ -0,0 +1,290 @@
+package engine.perft;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import engine.board.Board;
+import engine.board.EncodedMove;
+import engine.board.Fen;
+import engine.board.Move;
+import engine.board.MoveList;
+import engine.board.SearchBoard;
+
+public final class Perft {
+    private static final int MAX_DEPTH = 64;
+
+    private final MoveList[] moveBuffers;
+    private final PerftTable table;
+
+    public Perft() {
+        this(0);
+    }
+
+    public Perft(final int hashSizeInMegabytes) {
+        this.moveBuffers = MoveList.createPlyBuffers(MAX_DEPTH);
+        this.table = hashSizeInMegabytes > 0 ? new PerftTable(hashSizeInMegabytes) : null;
+    }
+
+    public long perft(final SearchBoard board, final int depth) {
+        checkDepth(depth, 0);
+
+        return count(board, depth);
+    }
+
+    private long count(final SearchBoard board, final int depth) {
+        if (depth == 0)
+            return 1;
+
+        if (this.table != null) {
+            final long cachedNodes = this.table.probe(board.getZobristKey(), depth);
+
+            if (cachedNodes >= 0)
+                return cachedNodes;
+        }
+
+        final MoveList moves = this.moveBuffers[depth];
+        moves.clear();
+        board.generateLegalMoves(moves);
+
+        if (depth == 1)
+            return moves.size();
+
+        long nodes = 0;
+
+        for (int i = 0; i < moves.size(); i++) {
+            board.makeMove(moves.get(i));
+            nodes += count(board, depth - 1);
+            board.unmakeMove();
+        }
+
+        if (this.table != null)
+            this.table.store(board.getZobristKey(), depth, nodes);
+
+        return nodes;
+    }
+
+    public long perft(final Board board, final int depth) {
+        checkDepth(depth, 0);
+
+        return count(board, depth);
+    }
+
+    private long count(final Board board, final int depth) {
+        if (depth == 0)
+            return 1;
+
+        if (this.table != null) {
+            final long cachedNodes = this.table.probe(board.getZobristKey(), depth);
+
+            if (cachedNodes >= 0)
+                return cachedNodes;
+        }
+
+        final List<Move> moves = board.getCurrentPlayer().getLegalMoves();
+
+        if (depth == 1)
+            return moves.size();
+
+        long nodes = 0;
+
+        for (final Move move : moves)
+            nodes += count(move.execute(), depth - 1);
+
+        if (this.table != null)
+            this.table.store(board.getZobristKey(), depth, nodes);
+
+        return nodes;
+    }
+
+    public Map<String, Long> divide(final SearchBoard board, final int depth) {
+        checkDepth(depth, 1);
+
+        final Map<String, Long> divisions = new LinkedHashMap<>();
+        final MoveList moves = new MoveList();
+        board.generateMoves(moves);
+
+        for (int i = 0; i < moves.size(); i++) {
+            if (board.makeMove(moves.get(i)) == false)
+                continue;
+
+            divisions.put(EncodedMove.toString(moves.get(i)), count(board, depth - 1));
+            board.unmakeMove();
+        }
+
+        return divisions;
+    }
+
+    public Map<String, Long> divide(final Board board, final int depth) {
+        checkDepth(depth, 1);
+
+        final Map<String, Long> divisions = new LinkedHashMap<>();
+
+        for (final Move move : board.getCurrentPlayer().getLegalMoves())
+            divisions.put(EncodedMove.toString(EncodedMove.encode(move)), count(move.execute(), depth - 1));
+
+        return divisions;
+    }
+
+    private static void checkDepth(final int depth, final int minimumDepth) {
+        if (depth < minimumDepth || depth >= MAX_DEPTH)
+            throw new IllegalArgumentException(
+                    "Perft depth must be between " + minimumDepth + " and " + (MAX_DEPTH - 1) + ": " + depth);
+    }
+
+    public static void main(final String[] args) {
+        int depth = 0;
+        int hashSize = 0;
+        boolean useBoard = false;
+        boolean divide = false;
+        String fen = null;
+
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals("-board"))
+                useBoard = true;
+            else if (args[i].equals("-divide"))
+                divide = true;
+            else if (args[i].equals("-hash"))
+                hashSize = Integer.parseInt(args[++i]);
+            else if (args[i].equals("-fen"))
+                fen = args[++i];
+            else
+                depth = Integer.parseInt(args[i]);
+        }
+
+        if (depth < 0 || depth >= MAX_DEPTH) {
+            System.err.println("Usage: Perft [-board] [-divide] [-hash MB] [-fen FEN] [depth < " + MAX_DEPTH + "]");
+            return;
+        }
+
+        final Perft perft = new Perft(hashSize);
+
+        if (fen != null) {
+            run(perft, fen, Math.max(1, depth), -1, useBoard, divide);
+            return;
+        }
+
+        long totalNodes = 0;
+        long totalNanos = 0;
+
+        for (final ReferencePosition reference : ReferencePosition.values()) {
+            final int referenceDepth = depth > 0
+                    ? Math.min(depth, reference.expectedNodes.length)
+                    : reference.defaultDepth;
+
+            final long start = System.nanoTime();
+            totalNodes += run(
+                    perft,
+                    reference.fen,
+                    referenceDepth,
+                    reference.expectedNodes[referenceDepth - 1],
+                    useBoard,
+                    divide);
+            totalNanos += System.nanoTime() - start;
+        }
+
+        System.out.printf(
+                "Total: %d nodes, %d nodes/sec%n",
+                totalNodes,
+                totalNodes * 1_000_000_000L / Math.max(1, totalNanos));
+    }
+
+    private static long run(
+            final Perft perft,
+            final String fen,
+            final int depth,
+            final long expectedNodes,
+            final boolean useBoard,
+            final boolean divide) {
+
+        final Board board = Fen.createBoard(fen);
+        final long start = System.nanoTime();
+        long nodes = 0;
+
+        if (divide) {
+            final Map<String, Long> divisions = useBoard
+                    ? perft.divide(board, depth)
+                    : perft.divide(new SearchBoard(board), depth);
+
+            for (final Map.Entry<String, Long> division : divisions.entrySet()) {
+                System.out.println(division.getKey() + ": " + division.getValue());
+                nodes += division.getValue();
+            }
+        } else {
+            nodes = useBoard ? perft.perft(board, depth) : perft.perft(new SearchBoard(board), depth);
+        }
+
+        final long elapsed = Math.max(1, System.nanoTime() - start);
+        final String status = expectedNodes < 0
+                ? ""
+                : nodes == expectedNodes ? " OK" : " FAILED (expected " + expectedNodes + ")";
+
+        System.out.printf(
+                "%s depth %d: %d nodes in %d ms, %d nodes/sec%s%n",
+                fen,
+                depth,
+                nodes,
+                elapsed / 1_000_000,
+                nodes * 1_000_000_000L / elapsed,
+                status);
+
+        return nodes;
+    }
+
+    private enum ReferencePosition {
+        STARTPOS("rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1", 5,
+                20L, 400L, 8902L, 197281L, 4865609L, 119060324L),
+        KIWIPETE("r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1", 4,
+                48L, 2039L, 97862L, 4085603L, 193690690L),
+        EN_PASSANT_PINS("8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - 0 1", 5,
+                14L, 191L, 2812L, 43238L, 674624L, 11030083L),
+        PROMOTIONS("r3k2r/Pppp1ppp/1b3nbN/nP6/BBP1P3/q4N2/Pp1P2PP/R2Q1RK1 w kq - 0 1", 4,
+                6L, 264L, 9467L, 422333L, 15833292L),
+        UNDER_PROMOTION_CHECKS("rnbq1k1r/pp1Pbppp/2p5/8/2B5/8/PPP1NnPP/RNBQK2R w KQ - 1 8", 4,
+                44L, 1486L, 62379L, 2103487L, 89941194L),
+        MIDDLEGAME("r4rk1/1pp1qppp/p1np1n2/2b1p1B1/2B1P1b1/P1NP1N2/1PP1QPPP/R4RK1 w - - 0 10", 4,
+                46L, 2079L, 89890L, 3894594L, 164075551L);
+
+        private final String fen;
+        private final int defaultDepth;
+        private final long[] expectedNodes;
+
+        ReferencePosition(final String fen, final int defaultDepth, final long... expectedNodes) {
+            this.fen = fen;
+            this.defaultDepth = defaultDepth;
+            this.expectedNodes = expectedNodes;
+        }
+    }
+
+    private static final class PerftTable {
+        private static final int DEPTH_BITS = 8;
+
+        private final long[] entries;
+        private final int mask;
+
+        PerftTable(final int sizeInMegabytes) {
+            final long slots = Long.highestOneBit(((long) sizeInMegabytes << 20) / (2 * Long.BYTES));
+
+            this.mask = (int) Math.min(slots, 1 << 28) - 1;
+            this.entries = new long[(this.mask + 1) * 2];
+        }
+
+        long probe(final long key, final int depth) {
+            final int slot = ((int) key & this.mask) * 2;
+            final long data = this.entries[slot + 1];
+
+            if ((this.entries[slot] ^ data) != key || (data & ((1 << DEPTH_BITS) - 1)) != depth)
+                return -1;
+
+            return data >>> DEPTH_BITS;
+        }
+
+        void store(final long key, final int depth, final long nodes) {
+            final int slot = ((int) key & this.mask) * 2;
+            final long data = nodes << DEPTH_BITS | depth;
+
+            this.entries[slot] = key ^ data;
+            this.entries[slot + 1] = data;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package engine.pgn;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import engine.board.Board;
+import engine.board.Move;
+
+public final class PgnGame {
+    private final Map<String, String> tags;
+    private final Board initialBoard;
+    private final Board board;
+    private final List<Move> moves;
+    private final String result;
+    private final long offset;
+
+    PgnGame(
+            final Map<String, String> tags,
+            final Board initialBoard,
+            final Board board,
+            final List<Move> moves,
+            final String result,
+            final long offset) {
+
+        this.tags = Collections.unmodifiableMap(tags);
+        this.initialBoard = initialBoard;
+        this.board = board;
+        this.moves = Collections.unmodifiableList(moves);
+        this.result = result;
+        this.offset = offset;
+    }
+
+    public Map<String, String> getTags() {
+        return this.tags;
+    }
+
+    public String getTag(final String name) {
+        return this.tags.get(name);
+    }
+
+    public Board getInitialBoard() {
+        return this.initialBoard;
+    }
+
+    public Board getBoard() {
+        return this.board;
+    }
+
+    public List<Move> getMoves() {
+        return this.moves;
+    }
+
+    public String getResult() {
+        return this.result;
+    }
+
+    public long getOffset() {
+        return this.offset;
+    }
+
+    @Override
+    public String toString() {
+        return this.tags.getOrDefault("White", "?") + " - " + this.tags.getOrDefault("Black", "?")
+                + " " + this.result + " (" + this.moves.size() + " plies)";
+    }
+}
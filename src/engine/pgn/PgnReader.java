@@ -0,0 +1,466 @@
+package engine.pgn;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import engine.board.Board;
+import engine.board.Fen;
+import engine.board.Move;
+import engine.board.MoveTransition;
+import engine.board.San;
+import engine.board.MoveTransition.MoveStatus;
+
+public final class PgnReader implements Closeable {
+    private static final long WINDOW_SIZE = 1L << 28;
+    private static final int LOOKBEHIND = 1 << 12;
+    private static final int INITIAL_TOKEN_LENGTH = 64;
+    private static final String UNKNOWN_RESULT = "*";
+
+    private final FileChannel channel;
+    private final boolean ownsChannel;
+    private final long start;
+    private final long end;
+    private final TokenSequence tokenSequence;
+
+    private MappedByteBuffer window;
+    private long windowStart;
+    private long windowEnd;
+    private long position;
+    private int previous;
+    private byte[] token;
+
+    public PgnReader(final Path path) throws IOException {
+        this(FileChannel.open(path, StandardOpenOption.READ), true);
+    }
+
+    private PgnReader(final FileChannel channel, final boolean ownsChannel) throws IOException {
+        this(channel, 0, channel.size(), ownsChannel);
+    }
+
+    private PgnReader(final FileChannel channel, final long start, final long end, final boolean ownsChannel)
+            throws IOException {
+
+        this.channel = channel;
+        this.ownsChannel = ownsChannel;
+        this.start = start;
+        this.end = end;
+        this.windowStart = start;
+        this.windowEnd = start;
+        this.position = start;
+        this.previous = '\n';
+        this.token = new byte[INITIAL_TOKEN_LENGTH];
+        this.tokenSequence = new TokenSequence();
+
+        if (start == 0 && end >= 3 && byteAt(0) == (byte) 0xEF && byteAt(1) == (byte) 0xBB && byteAt(2) == (byte) 0xBF)
+            this.position = 3;
+    }
+
+    public static long readParallel(final Path path, final Consumer<PgnGame> consumer) throws IOException {
+        return readParallel(path, Runtime.getRuntime().availableProcessors(), consumer);
+    }
+
+    public static long readParallel(final Path path, final int threadCount, final Consumer<PgnGame> consumer)
+            throws IOException {
+
+        if (threadCount < 1)
+            throw new IllegalArgumentException("Thread count must be positive: " + threadCount);
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            final long[] boundaries = findGameBoundaries(channel, threadCount);
+            final long[] gameCounts = new long[threadCount];
+            final Exception[] failures = new Exception[threadCount];
+            final Thread[] helpers = new Thread[threadCount - 1];
+
+            for (int i = 0; i < helpers.length; i++) {
+                final int readerIndex = i + 1;
+
+                helpers[i] = new Thread(
+                        () -> readRange(channel, boundaries, readerIndex, consumer, gameCounts, failures),
+                        "pgn-reader-" + readerIndex);
+                helpers[i].setDaemon(true);
+                helpers[i].start();
+            }
+
+            readRange(channel, boundaries, 0, consumer, gameCounts, failures);
+
+            boolean interrupted = false;
+
+            for (final Thread helper : helpers) {
+                while (true) {
+                    try {
+                        helper.join();
+                        break;
+                    } catch (final InterruptedException e) {
+                        interrupted = true;
+                    }
+                }
+            }
+
+            if (interrupted)
+                Thread.currentThread().interrupt();
+
+            for (final Exception failure : failures) {
+                if (failure instanceof IOException)
+                    throw (IOException) failure;
+
+                if (failure != null)
+                    throw (RuntimeException) failure;
+            }
+
+            long games = 0;
+
+            for (final long gameCount : gameCounts)
+                games += gameCount;
+
+            return games;
+        }
+    }
+
+    private static void readRange(
+            final FileChannel channel,
+            final long[] boundaries,
+            final int readerIndex,
+            final Consumer<PgnGame> consumer,
+            final long[] gameCounts,
+            final Exception[] failures) {
+
+        try (PgnReader reader = new PgnReader(
+                channel,
+                boundaries[readerIndex],
+                boundaries[readerIndex + 1],
+                false)) {
+
+            for (PgnGame game = reader.next(); game != null; game = reader.next()) {
+                consumer.accept(game);
+                gameCounts[readerIndex]++;
+            }
+        } catch (final IOException | RuntimeException e) {
+            failures[readerIndex] = e;
+        }
+    }
+
+    private static long[] findGameBoundaries(final FileChannel channel, final int rangeCount) throws IOException {
+        final long size = channel.size();
+        final long[] boundaries = new long[rangeCount + 1];
+
+        try (PgnReader scanner = new PgnReader(channel, 0, size, false)) {
+            for (int i = 1; i < rangeCount; i++)
+                boundaries[i] = Math.max(boundaries[i - 1], scanner.findGameStart(size / rangeCount * i));
+        }
+
+        boundaries[rangeCount] = size;
+
+        return boundaries;
+    }
+
+    private long findGameStart(final long offset) throws IOException {
+        long lineStart = offset;
+
+        while (lineStart > this.start && byteAt(lineStart - 1) != '\n')
+            lineStart--;
+
+        boolean previousIsTag = false;
+
+        if (lineStart > this.start) {
+            long previousLineStart = lineStart - 1;
+
+            while (previousLineStart > this.start && byteAt(previousLineStart - 1) != '\n')
+                previousLineStart--;
+
+            previousIsTag = byteAt(previousLineStart) == '[';
+        }
+
+        for (long position = lineStart; position < this.end;) {
+            final boolean isTag = byteAt(position) == '[';
+
+            if (isTag && previousIsTag == false)
+                return position;
+
+            previousIsTag = isTag;
+
+            while (position < this.end && byteAt(position) != '\n')
+                position++;
+
+            position++;
+        }
+
+        return this.end;
+    }
+
+    public PgnGame next() throws IOException {
+        if (skipWhitespace() < 0)
+            return null;
+
+        final long offset = this.position;
+        final Map<String, String> tags = new LinkedHashMap<>();
+
+        while (skipWhitespace() == '[')
+            readTag(tags);
+
+        final String fen = tags.get("FEN");
+        final Board initialBoard = fen == null ? Board.createStandardBoard() : Fen.createBoard(fen);
+        final List<Move> moves = new ArrayList<>();
+        String result = tags.getOrDefault("Result", UNKNOWN_RESULT);
+        Board board = initialBoard;
+
+        while (true) {
+            final int c = skipWhitespace();
+
+            if (c < 0 || (c == '[' && this.previous == '\n'))
+                break;
+
+            if (c == '%' && this.previous == '\n') {
+                skipPast('\n');
+            } else if (c == '{') {
+                skipPast('}');
+            } else if (c == ';') {
+                skipPast('\n');
+            } else if (c == '(') {
+                skipVariation();
+            } else if (c == ')') {
+                read();
+            } else if (c == '*') {
+                read();
+                result = UNKNOWN_RESULT;
+                break;
+            } else {
+                final int length = readToken();
+
+                if (c == '$')
+                    continue;
+
+                if (isResult(length)) {
+                    result = new String(this.token, 0, length, StandardCharsets.US_ASCII);
+                    break;
+                }
+
+                final int sanStart = skipMoveNumber(length);
+
+                if (sanStart == length)
+                    continue;
+
+                final Move move = San.parse(board, this.tokenSequence.set(sanStart, length));
+                final MoveTransition transition = move == Move.NULL_MOVE
+                        ? null
+                        : board.getCurrentPlayer().makeMove(move);
+
+                if (transition == null || transition.getMoveStatus().equals(MoveStatus.DONE) == false)
+                    throw new IllegalArgumentException(
+                            "Illegal PGN move "
+                                    + new String(this.token, sanStart, length - sanStart, StandardCharsets.US_ASCII)
+                                    + " in game at offset " + offset);
+
+                moves.add(move);
+                board = transition.getBoard();
+            }
+        }
+
+        return new PgnGame(tags, initialBoard, board, moves, result, offset);
+    }
+
+    private void readTag(final Map<String, String> tags) throws IOException {
+        read();
+        skipWhitespace();
+
+        int nameLength = 0;
+
+        for (int c = peek(); c >= 0 && c != '"' && c != ']' && isWhitespace(c) == false; c = peek())
+            nameLength = append(nameLength, read());
+
+        final String name = new String(this.token, 0, nameLength, StandardCharsets.US_ASCII);
+
+        skipWhitespace();
+
+        if (peek() != '"') {
+            skipPast(']');
+            return;
+        }
+
+        read();
+
+        int valueLength = 0;
+
+        for (int c = read(); c >= 0 && c != '"'; c = read()) {
+            if (c == '\\' && (peek() == '"' || peek() == '\\'))
+                c = read();
+
+            valueLength = append(valueLength, c);
+        }
+
+        tags.put(name, new String(this.token, 0, valueLength, StandardCharsets.UTF_8));
+        skipPast(']');
+    }
+
+    private int readToken() throws IOException {
+        int length = 0;
+
+        for (int c = peek(); c >= 0 && isDelimiter(c) == false; c = peek())
+            length = append(length, read());
+
+        if (length == 0)
+            read();
+
+        return length;
+    }
+
+    private int append(final int length, final int c) {
+        if (length == this.token.length)
+            this.token = Arrays.copyOf(this.token, length * 2);
+
+        this.token[length] = (byte) c;
+
+        return length + 1;
+    }
+
+    private boolean isResult(final int length) {
+        final byte[] token = this.token;
+
+        if (length == 3)
+            return (token[0] == '1' && token[1] == '-' && token[2] == '0')
+                    || (token[0] == '0' && token[1] == '-' && token[2] == '1');
+
+        return length == 7
+                && token[0] == '1' && token[1] == '/' && token[2] == '2' && token[3] == '-'
+                && token[4] == '1' && token[5] == '/' && token[6] == '2';
+    }
+
+    private int skipMoveNumber(final int length) {
+        final byte[] token = this.token;
+        int index = 0;
+
+        if (token[0] == '0' && length > 1 && token[1] == '-')
+            return 0;
+
+        while (index < length && token[index] >= '0' && token[index] <= '9')
+            index++;
+
+        while (index < length && token[index] == '.')
+            index++;
+
+        return index;
+    }
+
+    private void skipVariation() throws IOException {
+        int depth = 0;
+
+        for (int c = read(); c >= 0; c = read()) {
+            if (c == '(') {
+                depth++;
+            } else if (c == ')') {
+                if (--depth == 0)
+                    return;
+            } else if (c == '{') {
+                skipPast('}');
+            } else if (c == ';') {
+                skipPast('\n');
+            }
+        }
+    }
+
+    private void skipPast(final int terminator) throws IOException {
+        for (int c = read(); c >= 0 && c != terminator; c = read())
+            ;
+    }
+
+    private int skipWhitespace() throws IOException {
+        int c = peek();
+
+        while (c >= 0 && isWhitespace(c)) {
+            read();
+            c = peek();
+        }
+
+        return c;
+    }
+
+    private static boolean isWhitespace(final int c) {
+        return c == ' ' || c == '\n' || c == '\r' || c == '\t';
+    }
+
+    private static boolean isDelimiter(final int c) {
+        return isWhitespace(c) || c == '{' || c == '}' || c == '(' || c == ')' || c == ';' || c == '[';
+    }
+
+    private int read() throws IOException {
+        if (this.position >= this.end)
+            return -1;
+
+        this.previous = byteAt(this.position++) & 0xFF;
+
+        return this.previous;
+    }
+
+    private int peek() throws IOException {
+        return this.position < this.end ? byteAt(this.position) & 0xFF : -1;
+    }
+
+    private byte byteAt(final long offset) throws IOException {
+        if (offset < this.windowStart || offset >= this.windowEnd)
+            map(Math.max(this.start, offset - LOOKBEHIND));
+
+        return this.window.get((int) (offset - this.windowStart));
+    }
+
+    private void map(final long offset) throws IOException {
+        this.windowStart = offset;
+        this.windowEnd = Math.min(this.end, offset + WINDOW_SIZE);
+        this.window = this.channel.map(FileChannel.MapMode.READ_ONLY, offset, this.windowEnd - offset);
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.window = null;
+
+        if (this.ownsChannel)
+            this.channel.close();
+    }
+
+    private final class TokenSequence implements CharSequence {
+        private int start;
+        private int end;
+
+        TokenSequence set(final int start, final int end) {
+            this.start = start;
+            this.end = end;
+
+            return this;
+        }
+
+        @Override
+        public int length() {
+            return this.end - this.start;
+        }
+
+        @Override
+        public char charAt(final int index) {
+            if (index < 0 || index >= length())
+                throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + length());
+
+            return (char) (token[this.start + index] & 0xFF);
+        }
+
+        @Override
+        public CharSequence subSequence(final int start, final int end) {
+            if (start < 0 || start > end || end > length())
+                throw new IndexOutOfBoundsException("Range [" + start + ", " + end + ") out of bounds for length " + length());
+
+            return new String(token, this.start + start, end - start, StandardCharsets.ISO_8859_1);
+        }
+
+        @Override
+        public String toString() {
+            return new String(token, this.start, length(), StandardCharsets.ISO_8859_1);
+        }
+    }
+}
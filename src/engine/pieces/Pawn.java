@@ -4,67 +4,133 @@ import java.util.HashSet;
 import java.util.Set;
 
 import engine.Color;
+import engine.board.Attacks;
+import engine.board.BitBoards;
 import engine.board.Board;
 import engine.board.Move;
 import engine.board.Position;
-import engine.board.Tile;
 import engine.board.Move.PawnAttackMove;
+import engine.board.Move.PawnEnPassantAttackMove;
+import engine.board.Move.PawnJumpMove;
 import engine.board.Move.PawnMove;
+import engine.board.Move.PawnPromotion;
 
 public class Pawn extends Piece {
-    private final static int[] RELATIVE_FILE_COORDINATES = { -1, 1 };
-
-    public Pawn(final Position position, final Color color, final boolean hasMoved) {
+    private final static PieceType[] PROMOTION_TYPES = {
+            PieceType.QUEEN,
+            PieceType.ROOK,
+            PieceType.BISHOP,
+            PieceType.KNIGHT
+    };
+
+    Pawn(final Position position, final Color color, final boolean hasMoved) {
         super(PieceType.PAWN, position, color, hasMoved);
     }
 
-    @Override
-    public Set<Move> getLegalMoves(final Board board) {
+    public static Set<Move> calculatePawnMoves(final Board board, final Color color, final long pawns) {
         final HashSet<Move> legalMoves = new HashSet<>();
+        final BitBoards bitBoards = board.getBitBoards();
+        final int colorOrdinal = color.ordinal();
+        final long emptySquares = ~bitBoards.getOccupancy();
+        final long opponentOccupancy = bitBoards.getOccupancy(colorOrdinal ^ 1);
+        final long promotionRank = color.equals(Color.WHITE) ? BitBoards.RANK_8 : BitBoards.RANK_1;
+        final long jumpRank = color.equals(Color.WHITE) ? BitBoards.RANK_4 : BitBoards.RANK_5;
+        final int pushOffset = Position.NUM_FILES * color.getDirection();
+        final int westOffset = pushOffset - 1;
+        final int eastOffset = pushOffset + 1;
+
+        final long pushes = Attacks.getPawnPushes(colorOrdinal, pawns) & emptySquares;
+        final long jumps = Attacks.getPawnPushes(colorOrdinal, pushes) & emptySquares & jumpRank;
+        final long westAttacks = Attacks.getPawnWestAttacks(colorOrdinal, pawns) & opponentOccupancy;
+        final long eastAttacks = Attacks.getPawnEastAttacks(colorOrdinal, pawns) & opponentOccupancy;
+
+        for (long bits = pushes; bits != 0; bits &= bits - 1) {
+            final int destination = Long.numberOfTrailingZeros(bits);
+
+            addPawnMove(
+                    legalMoves,
+                    new PawnMove(board, board.getPiece(destination - pushOffset), Position.of(destination)),
+                    promotionRank);
+        }
 
-        final int nextRankOrdinal = position.rank.ordinal() + this.color.getDirection();
-
-        Position destinationPosition = new Position(position.file.ordinal(), nextRankOrdinal);
-        Tile destinationTile = board.getTile(destinationPosition);
-
-        if (destinationTile.isOccupied() == false) {
-            legalMoves.add(new PawnMove(board, this, destinationPosition));
+        for (long bits = jumps; bits != 0; bits &= bits - 1) {
+            final int destination = Long.numberOfTrailingZeros(bits);
 
-            if (this.hasMoved == false) {
-                destinationPosition = new Position(
-                        position.file.ordinal(),
-                        nextRankOrdinal + this.color.getDirection());
+            legalMoves.add(new PawnJumpMove(
+                    board,
+                    board.getPiece(destination - 2 * pushOffset),
+                    Position.of(destination)));
+        }
 
-                destinationTile = board.getTile(destinationPosition);
+        for (long bits = westAttacks; bits != 0; bits &= bits - 1) {
+            final int destination = Long.numberOfTrailingZeros(bits);
+
+            addPawnMove(
+                    legalMoves,
+                    new PawnAttackMove(
+                            board,
+                            board.getPiece(destination - westOffset),
+                            Position.of(destination),
+                            board.getPiece(destination)),
+                    promotionRank);
+        }
 
-                if (destinationTile.isOccupied() == false)
-                    legalMoves.add(new PawnMove(board, this, destinationPosition));
-            }
+        for (long bits = eastAttacks; bits != 0; bits &= bits - 1) {
+            final int destination = Long.numberOfTrailingZeros(bits);
+
+            addPawnMove(
+                    legalMoves,
+                    new PawnAttackMove(
+                            board,
+                            board.getPiece(destination - eastOffset),
+                            Position.of(destination),
+                            board.getPiece(destination)),
+                    promotionRank);
         }
 
-        for (int attackedFileCoordinate : RELATIVE_FILE_COORDINATES) {
-            final int attackedFileOrdinal = this.position.file.ordinal() + attackedFileCoordinate;
-            final Position attackedPosition = new Position(attackedFileOrdinal, nextRankOrdinal);
+        final Pawn enPassantPawn = board.getEnPassantPawn();
 
-            if (attackedPosition.isValid() == false)
-                continue;
+        if (enPassantPawn != null && enPassantPawn.getColor().equals(color) == false) {
+            final int destination = enPassantPawn.getPosition().getTileCoordinate() + pushOffset;
+            final long attackers = Attacks.getPawnAttacks(colorOrdinal ^ 1, destination) & pawns;
 
-            final Tile attackedTile = board.getTile(attackedPosition);
+            for (long bits = attackers; bits != 0; bits &= bits - 1)
+                legalMoves.add(new PawnEnPassantAttackMove(
+                        board,
+                        board.getPiece(Long.numberOfTrailingZeros(bits)),
+                        Position.of(destination),
+                        enPassantPawn));
+        }
 
-            if (attackedTile.isOccupied() == false)
-                continue;
+        return legalMoves;
+    }
 
-            final Piece attackedPiece = attackedTile.getPiece();
+    private static void addPawnMove(final Set<Move> legalMoves, final Move move, final long promotionRank) {
+        final long destinationBit = BitBoards.getSquareBit(move.getDestinationPosition().getTileCoordinate());
 
-            if (this.color.equals(attackedPiece.getColor()) == false)
-                legalMoves.add(new PawnAttackMove(board, this, attackedPosition, attackedPiece));
+        if ((destinationBit & promotionRank) == 0) {
+            legalMoves.add(move);
+            return;
         }
 
-        return legalMoves;
+        for (final PieceType promotionType : PROMOTION_TYPES)
+            legalMoves.add(new PawnPromotion(move, promotionType));
+    }
+
+    @Override
+    public Set<Move> getLegalMoves(final Board board) {
+        return calculatePawnMoves(board, this.color, BitBoards.getSquareBit(this.position.getTileCoordinate()));
     }
 
     @Override
     public Pawn movePiece(final Position destination) {
-        return new Pawn(destination, this.color, true);
+        return (Pawn) Piece.of(PieceType.PAWN, destination, this.color, true);
+    }
+
+    public Piece promote(final PieceType promotionType, final Position destination) {
+        if (promotionType.equals(PieceType.PAWN) || promotionType.equals(PieceType.KING))
+            throw new RuntimeException("Pawn cannot be promoted to " + promotionType.name());
+
+        return Piece.of(promotionType, destination, this.color, true);
     }
 }
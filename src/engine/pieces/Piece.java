@@ -1,11 +1,15 @@
 package engine.pieces;
 
+import java.util.HashSet;
 import java.util.Set;
 
 import engine.Color;
+import engine.board.BitBoards;
 import engine.board.Board;
 import engine.board.Move;
 import engine.board.Position;
+import engine.board.Move.AttackMove;
+import engine.board.Move.NormalMove;
 
 public abstract class Piece {
     private final int cachedHashCode;
@@ -33,6 +37,38 @@ public abstract class Piece {
         return hash;
     }
 
+    public static Piece of(
+            final PieceType type,
+            final Position position,
+            final Color color,
+            final boolean hasMoved) {
+
+        return PieceCache.get(type, position, color, hasMoved);
+    }
+
+    static Set<Move> calculateMoves(final Board board, final Piece piece, final long attacks) {
+        final HashSet<Move> legalMoves = new HashSet<>();
+        final BitBoards bitBoards = board.getBitBoards();
+        final long opponentOccupancy = bitBoards.getOccupancy(piece.getColor().ordinal() ^ 1);
+        final long destinations = attacks & ~bitBoards.getOccupancy(piece.getColor());
+
+        for (long bits = destinations; bits != 0; bits &= bits - 1) {
+            final int destinationCoordinate = Long.numberOfTrailingZeros(bits);
+            final Position destinationPosition = Position.of(destinationCoordinate);
+
+            if ((opponentOccupancy & BitBoards.getSquareBit(destinationCoordinate)) != 0)
+                legalMoves.add(new AttackMove(
+                        board,
+                        piece,
+                        destinationPosition,
+                        board.getPiece(destinationCoordinate)));
+            else
+                legalMoves.add(new NormalMove(board, piece, destinationPosition));
+        }
+
+        return legalMoves;
+    }
+
     public Color getColor() {
         return this.color;
     }
@@ -65,18 +101,7 @@ public abstract class Piece {
 
     @Override
     public boolean equals(final Object other) {
-        if (this == other)
-            return true;
-
-        if (other instanceof Piece == false)
-            return false;
-
-        Piece otherPiece = (Piece) other;
-
-        return this.position.equals(otherPiece.position) &&
-                this.type.equals(otherPiece.type) &&
-                this.color.equals(otherPiece.color) &&
-                this.hasMoved == otherPiece.hasMoved;
+        return this == other;
     }
 
     @Override
@@ -102,6 +127,10 @@ public abstract class Piece {
             this.pieceChar = pieceChar;
         }
 
+        public char getPieceChar() {
+            return this.pieceChar;
+        }
+
         @Override
         public String toString() {
             return String.valueOf(this.pieceChar);
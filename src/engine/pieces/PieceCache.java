@@ -0,0 +1,73 @@
+package engine.pieces;
+
+import engine.Color;
+import engine.board.Position;
+import engine.board.Tile;
+import engine.pieces.Piece.PieceType;
+
+final class PieceCache {
+    private static final PieceType[] PIECE_TYPES = PieceType.values();
+    private static final Color[] COLORS = Color.values();
+    private static final Piece[] PIECES = createPieces();
+
+    private PieceCache() {
+        throw new RuntimeException("PieceCache cannot be instantiated");
+    }
+
+    private static Piece[] createPieces() {
+        final Piece[] pieces = new Piece[PIECE_TYPES.length * COLORS.length * Tile.NUM_TILES * 2];
+
+        for (final PieceType type : PIECE_TYPES)
+            for (final Color color : COLORS)
+                for (int tileCoordinate = 0; tileCoordinate < Tile.NUM_TILES; tileCoordinate++) {
+                    final Position position = Position.of(tileCoordinate);
+
+                    pieces[getIndex(type, position, color, false)] = create(type, position, color, false);
+                    pieces[getIndex(type, position, color, true)] = create(type, position, color, true);
+                }
+
+        return pieces;
+    }
+
+    private static int getIndex(
+            final PieceType type,
+            final Position position,
+            final Color color,
+            final boolean hasMoved) {
+
+        final int pieceIndex = type.ordinal() * COLORS.length + color.ordinal();
+
+        return (pieceIndex * Tile.NUM_TILES + position.getTileCoordinate()) * 2 + (hasMoved ? 1 : 0);
+    }
+
+    private static Piece create(
+            final PieceType type,
+            final Position position,
+            final Color color,
+            final boolean hasMoved) {
+
+        switch (type) {
+            case PAWN:
+                return new Pawn(position, color, hasMoved);
+            case KNIGHT:
+                return new Knight(position, color, hasMoved);
+            case BISHOP:
+                return new Bishop(position, color, hasMoved);
+            case ROOK:
+                return new Rook(position, color, hasMoved);
+            case QUEEN:
+                return new Queen(position, color, hasMoved);
+            case KING:
+                return new King(position, color, hasMoved);
+            default:
+                throw new RuntimeException("Unknown piece type " + type.name());
+        }
+    }
+
+    static Piece get(final PieceType type, final Position position, final Color color, final boolean hasMoved) {
+        if (position.isValid() == false)
+            throw new IllegalArgumentException("Piece cannot be placed off the board");
+
+        return PIECES[getIndex(type, position, color, hasMoved)];
+    }
+}
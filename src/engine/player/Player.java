@@ -1,64 +1,41 @@
 package engine.player;
 
 import java.util.ArrayList;
-import java.util.HashSet;
+import java.util.Collections;
 import java.util.List;
-import java.util.Set;
 
 import engine.Color;
 import engine.board.Board;
+import engine.board.EncodedMove;
 import engine.board.Move;
+import engine.board.MoveList;
 import engine.board.MoveTransition;
-import engine.board.Position;
-import engine.board.Tile;
-import engine.board.Move.LongCastleMove;
-import engine.board.Move.ShortCastleMove;
 import engine.board.MoveTransition.MoveStatus;
-import engine.board.Position.File;
-import engine.board.Position.Rank;
 import engine.pieces.King;
 import engine.pieces.Piece;
-import engine.pieces.Rook;
 import engine.pieces.Piece.PieceType;
 
 public abstract class Player {
     protected final Board board;
     protected final King king;
-    protected final Set<Move> legalMoves;
+    protected final List<Move> legalMoves;
+    protected final MoveList strictlyLegalMoves;
     protected final boolean isInCheck;
-    protected final Rank playerFirstRank;
-
-    Player(
-            final Board board,
-            final Set<Move> legalMoves,
-            final Set<Move> opponentLegalMoves,
-            final Rank playerFirstRank) {
 
+    Player(final Board board) {
         this.board = board;
         this.king = findKing(board);
-        this.playerFirstRank = playerFirstRank;
-
-        Set<Move> moves = new HashSet<>();
-
-        for (final Move move : legalMoves)
-            moves.add(move);
-
-        for (final Move move : this.calculateCastleMoves(opponentLegalMoves))
-            moves.add(move);
-
-        this.legalMoves = moves;
+        this.isInCheck = board.isSquareAttacked(this.king.getPosition().getTileCoordinate(), getColor().getOpposite());
+        this.strictlyLegalMoves = new MoveList();
 
-        this.isInCheck = !getAttacksOnTile(this.king.getPosition(), opponentLegalMoves).isEmpty();
-    }
+        board.generateLegalMoves(getColor(), this.strictlyLegalMoves);
 
-    private List<Move> getAttacksOnTile(final Position position, final Set<Move> opponentLegalMoves) {
-        final List<Move> attackMoves = new ArrayList<>();
+        final List<Move> moves = new ArrayList<>(this.strictlyLegalMoves.size());
 
-        for (final Move opponentMove : opponentLegalMoves)
-            if (position.equals(opponentMove.getDestinationPosition()))
-                attackMoves.add(opponentMove);
+        for (int i = 0; i < this.strictlyLegalMoves.size(); i++)
+            moves.add(EncodedMove.decode(board, this.strictlyLegalMoves.get(i)));
 
-        return attackMoves;
+        this.legalMoves = Collections.unmodifiableList(moves);
     }
 
     private King findKing(final Board board) {
@@ -73,7 +50,7 @@ public abstract class Player {
         return this.king;
     }
 
-    public Set<Move> getLegalMoves() {
+    public List<Move> getLegalMoves() {
         return this.legalMoves;
     }
 
@@ -81,6 +58,10 @@ public abstract class Player {
         return this.legalMoves.contains(move);
     }
 
+    public boolean isLegal(final int encodedMove) {
+        return this.strictlyLegalMoves.contains(encodedMove);
+    }
+
     public boolean isInCheck() {
         return this.isInCheck;
     }
@@ -94,95 +75,14 @@ public abstract class Player {
     }
 
     public boolean hasEscapeMoves() {
-        for (final Move move : this.legalMoves) {
-            final MoveTransition transition = makeMove(move);
-
-            if (transition.getMoveStatus().equals(MoveStatus.DONE))
-                return true;
-        }
-
-        return false;
+        return this.strictlyLegalMoves.isEmpty() == false;
     }
 
     public MoveTransition makeMove(final Move move) {
         if (isMoveLegal(move) == false)
             return new MoveTransition(this.board, move, MoveStatus.ILLEGAL);
 
-        final Board transitionBoard = move.execute();
-
-        final List<Move> kingAttacks = getAttacksOnTile(
-                transitionBoard
-                        .getCurrentPlayer()
-                        .getOpponent()
-                        .getKing()
-                        .getPosition(),
-                transitionBoard
-                        .getCurrentPlayer()
-                        .getLegalMoves());
-
-        if (kingAttacks.isEmpty() == false)
-            return new MoveTransition(this.board, move, MoveStatus.LEAVES_PLAYER_IN_CHECK);
-
-        return new MoveTransition(transitionBoard, move, MoveStatus.DONE);
-    }
-
-    public Set<Move> calculateCastleMoves(final Set<Move> opponentLegalMoves) {
-        final Set<Move> castleMoves = new HashSet<>();
-
-        if (this.king.isFirstMove() && this.isInCheck == false) {
-            final Position kingsBishopPosition = new Position(File.F, this.playerFirstRank);
-            final Position kingsKnightPosition = new Position(File.G, this.playerFirstRank);
-            final Position kingsRookPosition = new Position(File.H, this.playerFirstRank);
-
-            final Position queenPosition = new Position(File.D, this.playerFirstRank);
-            final Position queensBishopPosition = new Position(File.C, this.playerFirstRank);
-            final Position queensKnightPosition = new Position(File.B, this.playerFirstRank);
-            final Position queensRookPosition = new Position(File.A, this.playerFirstRank);
-
-            if (this.board.getTile(kingsBishopPosition).isOccupied() == false &&
-                    this.board.getTile(kingsKnightPosition).isOccupied() == false) {
-                final Tile kingsRookTile = board.getTile(kingsRookPosition);
-
-                if (kingsRookTile.isOccupied() &&
-                        kingsRookTile.getPiece().isFirstMove() &&
-                        kingsRookTile.getPiece().getPieceType().equals(PieceType.ROOK))
-
-                    if (getAttacksOnTile(kingsBishopPosition, opponentLegalMoves).isEmpty() &&
-                            getAttacksOnTile(kingsKnightPosition, opponentLegalMoves).isEmpty())
-                        castleMoves.add(
-                                new ShortCastleMove(
-                                        this.board,
-                                        this.king,
-                                        kingsKnightPosition,
-                                        (Rook) kingsRookTile.getPiece(),
-                                        kingsRookPosition,
-                                        kingsBishopPosition));
-            }
-
-            if (this.board.getTile(queenPosition).isOccupied() == false &&
-                    this.board.getTile(queensBishopPosition).isOccupied() == false &&
-                    this.board.getTile(queensKnightPosition).isOccupied() == false) {
-                final Tile queensRookTile = board.getTile(queensRookPosition);
-
-                if (queensRookTile.isOccupied() &&
-                        queensRookTile.getPiece().isFirstMove() &&
-                        queensRookTile.getPiece().getPieceType().equals(PieceType.ROOK))
-
-                    if (getAttacksOnTile(queenPosition, opponentLegalMoves).isEmpty() &&
-                            getAttacksOnTile(queensBishopPosition, opponentLegalMoves).isEmpty())
-                        castleMoves.add(
-                                new LongCastleMove(
-                                        this.board,
-                                        this.king,
-                                        queensBishopPosition,
-                                        (Rook) queensRookTile.getPiece(),
-                                        queensRookPosition,
-                                        queenPosition));
-            }
-
-        }
-
-        return castleMoves;
+        return new MoveTransition(move.execute(), move, MoveStatus.DONE);
     }
 
     public abstract List<Piece> getActivePieces();
@@ -192,8 +92,8 @@ public abstract class Player {
     public abstract Player getOpponent();
 
     public static final class WhitePlayer extends Player {
-        public WhitePlayer(Board board, Set<Move> legalMoves, Set<Move> opponentLegalMoves) {
-            super(board, legalMoves, opponentLegalMoves, Rank.FIRST);
+        public WhitePlayer(Board board) {
+            super(board);
         }
 
         @Override
@@ -213,8 +113,8 @@ public abstract class Player {
     }
 
     public static final class BlackPlayer extends Player {
-        public BlackPlayer(Board board, Set<Move> legalMoves, Set<Move> opponentLegalMoves) {
-            super(board, legalMoves, opponentLegalMoves, Rank.EIGHTH);
+        public BlackPlayer(Board board) {
+            super(board);
         }
 
         @Override
@@ -0,0 +1,35 @@
+package engine.search;
+
+import engine.board.BitBoards;
+import engine.board.Board;
+import engine.board.PieceSquareTables;
+import engine.board.SearchBoard;
+
+public final class Evaluator {
+    private static final int[] PIECE_VALUES = { 100, 320, 330, 500, 900, 0 };
+
+    private Evaluator() {
+        throw new RuntimeException("Evaluator cannot be instantiated");
+    }
+
+    public static int getPieceValue(final int typeOrdinal) {
+        return PIECE_VALUES[typeOrdinal];
+    }
+
+    public static int evaluate(final SearchBoard board) {
+        return evaluate(board.getBitBoards(), board.getColorOrdinal());
+    }
+
+    public static int evaluate(final Board board) {
+        return evaluate(board.getBitBoards(), board.getMoveMaker().ordinal());
+    }
+
+    private static int evaluate(final BitBoards bitBoards, final int colorOrdinal) {
+        final int phase = Math.min(bitBoards.getPhase(), PieceSquareTables.MAX_PHASE);
+        final int score = (bitBoards.getMiddlegameScore() * phase
+                + bitBoards.getEndgameScore() * (PieceSquareTables.MAX_PHASE - phase))
+                / PieceSquareTables.MAX_PHASE;
+
+        return colorOrdinal == 0 ? score : -score;
+    }
+}
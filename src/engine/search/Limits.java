@@ -0,0 +1,68 @@
+package engine.search;
+
+public final class Limits {
+    public static final int MAX_DEPTH = Search.MAX_PLY - 1;
+
+    private final int depth;
+    private final long moveTimeMillis;
+    private final long nodes;
+
+    private Limits(final LimitsBuilder builder) {
+        this.depth = builder.depth;
+        this.moveTimeMillis = builder.moveTimeMillis;
+        this.nodes = builder.nodes;
+    }
+
+    public static Limits depth(final int depth) {
+        return new LimitsBuilder().setDepth(depth).build();
+    }
+
+    public static Limits moveTime(final long moveTimeMillis) {
+        return new LimitsBuilder().setMoveTime(moveTimeMillis).build();
+    }
+
+    public int getDepth() {
+        return this.depth;
+    }
+
+    public long getMoveTimeMillis() {
+        return this.moveTimeMillis;
+    }
+
+    public long getNodes() {
+        return this.nodes;
+    }
+
+    public boolean hasMoveTime() {
+        return this.moveTimeMillis > 0;
+    }
+
+    public boolean hasNodes() {
+        return this.nodes > 0;
+    }
+
+    public static class LimitsBuilder {
+        int depth = MAX_DEPTH;
+        long moveTimeMillis;
+        long nodes;
+
+        public LimitsBuilder setDepth(final int depth) {
+            this.depth = Math.max(1, Math.min(depth, MAX_DEPTH));
+            return this;
+        }
+
+        public LimitsBuilder setMoveTime(final long moveTimeMillis) {
+            this.moveTimeMillis = moveTimeMillis;
+            return this;
+        }
+
+        public LimitsBuilder setNodes(final long nodes) {
+            this.nodes = nodes;
+            return this;
+        }
+
+        public Limits build() {
+            return new Limits(this);
+        }
+    }
+}
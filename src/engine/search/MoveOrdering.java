@@ -0,0 +1,199 @@
+package engine.search;
+
+import engine.board.BitBoards;
+import engine.board.EncodedMove;
+import engine.board.MoveList;
+import engine.board.SearchBoard;
+import engine.pieces.Piece.PieceType;
+
+final class MoveOrdering {
+    private static final int HASH_MOVE_SCORE = 1 << 30;
+    private static final int GOOD_CAPTURE_SCORE = 1 << 28;
+    private static final int FIRST_KILLER_SCORE = 1 << 27;
+    private static final int SECOND_KILLER_SCORE = FIRST_KILLER_SCORE - 1;
+    private static final int COUNTERMOVE_SCORE = FIRST_KILLER_SCORE - 2;
+    private static final int BAD_CAPTURE_SCORE = -(1 << 28);
+    private static final int MAX_HISTORY = 1 << 20;
+
+    private static final int PAWN = PieceType.PAWN.ordinal();
+    private static final int NUM_SQUARES = 64;
+
+    private final int[][] killers;
+    private final int[][] countermoves;
+    private final int[][][] history;
+    private final int[][] scores;
+    private final StaticExchange staticExchange;
+
+    MoveOrdering(final StaticExchange staticExchange) {
+        this.killers = new int[Search.MAX_PLY][2];
+        this.countermoves = new int[BitBoards.NUM_PIECE_CODES][NUM_SQUARES];
+        this.history = new int[2][NUM_SQUARES][NUM_SQUARES];
+        this.scores = new int[Search.MAX_PLY][MoveList.MAX_MOVES];
+        this.staticExchange = staticExchange;
+    }
+
+    void newSearch() {
+        for (final int[] plyKillers : this.killers) {
+            plyKillers[0] = EncodedMove.NONE;
+            plyKillers[1] = EncodedMove.NONE;
+        }
+
+        for (final int[][] colorHistory : this.history)
+            for (final int[] sourceHistory : colorHistory)
+                for (int i = 0; i < NUM_SQUARES; i++)
+                    sourceHistory[i] >>= 1;
+    }
+
+    void scoreMoves(final SearchBoard board, final MoveList moves, final int hashMove, final int ply) {
+        final BitBoards bitBoards = board.getBitBoards();
+        final int colorOrdinal = board.getColorOrdinal();
+        final int countermove = getCountermove(board);
+        final int[] plyScores = this.scores[ply];
+        final int[] plyKillers = this.killers[ply];
+        final int[][] colorHistory = this.history[colorOrdinal];
+
+        for (int i = 0; i < moves.size(); i++) {
+            final int move = moves.get(i);
+            final int source = EncodedMove.getSource(move);
+            final int destination = EncodedMove.getDestination(move);
+
+            if (move == hashMove)
+                plyScores[i] = HASH_MOVE_SCORE;
+            else if (EncodedMove.isCapture(move) || EncodedMove.isPromotion(move))
+                plyScores[i] = (this.staticExchange.evaluate(bitBoards, move) >= 0
+                        ? GOOD_CAPTURE_SCORE
+                        : BAD_CAPTURE_SCORE) + scoreCapture(bitBoards, move, source, destination);
+            else if (move == plyKillers[0])
+                plyScores[i] = FIRST_KILLER_SCORE;
+            else if (move == plyKillers[1])
+                plyScores[i] = SECOND_KILLER_SCORE;
+            else if (move == countermove)
+                plyScores[i] = COUNTERMOVE_SCORE;
+            else
+                plyScores[i] = colorHistory[source][destination];
+        }
+    }
+
+    void scoreCaptures(final SearchBoard board, final MoveList moves, final int ply) {
+        final BitBoards bitBoards = board.getBitBoards();
+        final int[] plyScores = this.scores[ply];
+
+        for (int i = 0; i < moves.size(); i++) {
+            final int move = moves.get(i);
+
+            plyScores[i] = scoreCapture(bitBoards, move, EncodedMove.getSource(move), EncodedMove.getDestination(move));
+        }
+    }
+
+    void selectMove(final MoveList moves, final int index, final int ply) {
+        final int[] plyScores = this.scores[ply];
+        int bestIndex = index;
+
+        for (int i = index + 1; i < moves.size(); i++)
+            if (plyScores[i] > plyScores[bestIndex])
+                bestIndex = i;
+
+        if (bestIndex == index)
+            return;
+
+        moves.swap(index, bestIndex);
+
+        final int score = plyScores[index];
+        plyScores[index] = plyScores[bestIndex];
+        plyScores[bestIndex] = score;
+    }
+
+    void rotateMoves(final MoveList moves, final int ply, final int distance) {
+        final int size = moves.size();
+        final int[] plyScores = this.scores[ply];
+
+        if (size < 3)
+            return;
+
+        for (int i = 0; i < size; i++)
+            selectMove(moves, i, ply);
+
+        final int pivot = 1 + distance % (size - 1);
+
+        reverseMoves(moves, 1, pivot - 1);
+        reverseMoves(moves, pivot, size - 1);
+        reverseMoves(moves, 1, size - 1);
+
+        for (int i = 0; i < size; i++)
+            plyScores[i] = size - i;
+    }
+
+    private static void reverseMoves(final MoveList moves, int first, int last) {
+        while (first < last)
+            moves.swap(first++, last--);
+    }
+
+    void updateQuietCutoff(
+            final SearchBoard board,
+            final MoveList moves,
+            final int cutoffIndex,
+            final int depth,
+            final int ply) {
+
+        final int move = moves.get(cutoffIndex);
+        final int[] plyKillers = this.killers[ply];
+        final int[][] colorHistory = this.history[board.getColorOrdinal()];
+        final int bonus = depth * depth;
+
+        if (plyKillers[0] != move) {
+            plyKillers[1] = plyKillers[0];
+            plyKillers[0] = move;
+        }
+
+        final int lastMove = board.getLastMove();
+
+        if (lastMove != EncodedMove.NONE) {
+            final int lastDestination = EncodedMove.getDestination(lastMove);
+            this.countermoves[board.getBitBoards().getPieceCode(lastDestination)][lastDestination] = move;
+        }
+
+        addHistory(colorHistory, move, bonus);
+
+        for (int i = 0; i < cutoffIndex; i++) {
+            final int triedMove = moves.get(i);
+
+            if (EncodedMove.isCapture(triedMove) == false && EncodedMove.isPromotion(triedMove) == false)
+                addHistory(colorHistory, triedMove, -bonus);
+        }
+    }
+
+    private int getCountermove(final SearchBoard board) {
+        final int lastMove = board.getLastMove();
+
+        if (lastMove == EncodedMove.NONE)
+            return EncodedMove.NONE;
+
+        final int lastDestination = EncodedMove.getDestination(lastMove);
+
+        return this.countermoves[board.getBitBoards().getPieceCode(lastDestination)][lastDestination];
+    }
+
+    private static int scoreCapture(final BitBoards bitBoards, final int move, final int source, final int destination) {
+        final int promotion = EncodedMove.isPromotion(move)
+                ? Evaluator.getPieceValue(EncodedMove.getPromotionTypeOrdinal(move))
+                : 0;
+
+        if (EncodedMove.isCapture(move) == false)
+            return promotion;
+
+        final int attacker = BitBoards.getTypeOrdinal(bitBoards.getPieceCode(source));
+        final int victim = EncodedMove.getFlags(move) == EncodedMove.EN_PASSANT
+                ? PAWN
+                : BitBoards.getTypeOrdinal(bitBoards.getPieceCode(destination));
+
+        return promotion + Evaluator.getPieceValue(victim) * BitBoards.NUM_PIECE_TYPES - attacker;
+    }
+
+    private static void addHistory(final int[][] colorHistory, final int move, final int bonus) {
+        final int source = EncodedMove.getSource(move);
+        final int destination = EncodedMove.getDestination(move);
+        final int value = colorHistory[source][destination] + bonus;
+
+        colorHistory[source][destination] = Math.max(-MAX_HISTORY, Math.min(value, MAX_HISTORY));
+    }
+}
@@ -0,0 +1,95 @@
+package engine.search;
+
+import engine.board.Board;
+import engine.tablebase.Tablebase;
+
+public class ParallelSearch {
+    private final TranspositionTable transpositionTable;
+    private final Search[] searches;
+
+    public ParallelSearch(final int threadCount) {
+        this(threadCount, new TranspositionTable());
+    }
+
+    public ParallelSearch(final int threadCount, final TranspositionTable transpositionTable) {
+        if (threadCount < 1)
+            throw new IllegalArgumentException("Thread count must be positive: " + threadCount);
+
+        this.transpositionTable = transpositionTable;
+        this.searches = new Search[threadCount];
+
+        for (int i = 0; i < threadCount; i++)
+            this.searches[i] = new Search(transpositionTable, i);
+    }
+
+    public SearchResult bestMove(final Board board, final Limits limits) {
+        final long start = System.nanoTime();
+        final Thread[] helpers = new Thread[this.searches.length - 1];
+
+        this.transpositionTable.newSearch();
+
+        for (final Search search : this.searches)
+            search.reset();
+
+        for (int i = 0; i < helpers.length; i++) {
+            final int threadIndex = i + 1;
+            final Search helper = this.searches[threadIndex];
+
+            helpers[i] = new Thread(() -> helper.iterate(board, limits), "search-helper-" + threadIndex);
+            helpers[i].setDaemon(true);
+            helpers[i].start();
+        }
+
+        final SearchResult result = this.searches[0].search(board, limits);
+
+        for (int i = 1; i < this.searches.length; i++)
+            this.searches[i].stop();
+
+        boolean interrupted = false;
+
+        for (final Thread helper : helpers) {
+            while (true) {
+                try {
+                    helper.join();
+                    break;
+                } catch (final InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        }
+
+        if (interrupted)
+            Thread.currentThread().interrupt();
+
+        return new SearchResult(
+                result.getBestMove(),
+                result.getPrincipalVariation(),
+                result.getScore(),
+                result.getDepth(),
+                getNodes(),
+                (System.nanoTime() - start) / 1_000_000L);
+    }
+
+    public void setTablebase(final Tablebase tablebase) {
+        for (final Search search : this.searches)
+            search.setTablebase(tablebase);
+    }
+
+    public void stop() {
+        for (final Search search : this.searches)
+            search.stop();
+    }
+
+    public long getNodes() {
+        long nodes = 0;
+
+        for (final Search search : this.searches)
+            nodes += search.getNodes();
+
+        return nodes;
+    }
+
+    public int getThreadCount() {
+        return this.searches.length;
+    }
+}
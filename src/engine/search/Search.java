@@ -0,0 +1,348 @@
+package engine.search;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import engine.board.Board;
+import engine.board.CastlingRights;
+import engine.board.EncodedMove;
+import engine.board.Move;
+import engine.board.MoveList;
+import engine.board.SearchBoard;
+import engine.board.Move.MoveFactory;
+import engine.tablebase.Tablebase;
+
+public class Search {
+    public static final int MAX_PLY = 128;
+    public static final int INFINITY = 32000;
+    public static final int MATE = 31000;
+    public static final int MATE_BOUND = MATE - MAX_PLY;
+    public static final int DRAW = 0;
+
+    private static final int NODES_BETWEEN_CHECKS = 2048;
+
+    private final TranspositionTable transpositionTable;
+    private final MoveOrdering moveOrdering;
+    private final StaticExchange staticExchange;
+    private final int threadIndex;
+    private final MoveList[] moveBuffers;
+    private final int[][] principalVariation;
+    private final int[] principalVariationLength;
+    private final int[] tablebaseSquares;
+
+    private SearchBoard board;
+    private Tablebase tablebase;
+    private long nodes;
+    private long nodeLimit;
+    private long deadline;
+    private int[] bestLine;
+    private int bestScore;
+    private int completedDepth;
+    private volatile boolean stopped;
+
+    public Search() {
+        this(new TranspositionTable());
+    }
+
+    public Search(final TranspositionTable transpositionTable) {
+        this(transpositionTable, 0);
+    }
+
+    Search(final TranspositionTable transpositionTable, final int threadIndex) {
+        this.transpositionTable = transpositionTable;
+        this.staticExchange = new StaticExchange();
+        this.moveOrdering = new MoveOrdering(this.staticExchange);
+        this.threadIndex = threadIndex;
+        this.moveBuffers = MoveList.createPlyBuffers(MAX_PLY);
+        this.principalVariation = new int[MAX_PLY][MAX_PLY];
+        this.principalVariationLength = new int[MAX_PLY];
+        this.tablebaseSquares = new int[Tablebase.SQUARE_COUNT];
+    }
+
+    public SearchResult bestMove(final Board board, final Limits limits) {
+        this.stopped = false;
+        this.transpositionTable.newSearch();
+
+        return search(board, limits);
+    }
+
+    SearchResult search(final Board board, final Limits limits) {
+        final long start = System.nanoTime();
+
+        iterate(board, limits);
+
+        return createResult(
+                board,
+                this.bestLine,
+                this.bestScore,
+                this.completedDepth,
+                (System.nanoTime() - start) / 1_000_000L);
+    }
+
+    void iterate(final Board board, final Limits limits) {
+        final long start = System.nanoTime();
+
+        this.board = new SearchBoard(board);
+        this.nodes = 0;
+        this.nodeLimit = limits.hasNodes() ? limits.getNodes() : Long.MAX_VALUE;
+        this.deadline = limits.hasMoveTime() ? start + limits.getMoveTimeMillis() * 1_000_000L : Long.MAX_VALUE;
+        this.moveOrdering.newSearch();
+        this.bestLine = new int[0];
+        this.bestScore = 0;
+        this.completedDepth = 0;
+
+        for (int depth = 1 + (this.threadIndex & 1); depth <= limits.getDepth(); depth++) {
+            final int score = negamax(depth, -INFINITY, INFINITY, 0);
+
+            if (this.stopped && this.completedDepth > 0)
+                break;
+
+            if (this.stopped == false || this.principalVariationLength[0] > 0) {
+                this.bestLine = new int[this.principalVariationLength[0]];
+                System.arraycopy(this.principalVariation[0], 0, this.bestLine, 0, this.bestLine.length);
+                this.bestScore = score;
+                this.completedDepth = depth;
+            }
+
+            if (this.stopped || this.bestLine.length == 0 || Math.abs(score) >= MATE_BOUND)
+                break;
+        }
+    }
+
+    public void stop() {
+        this.stopped = true;
+    }
+
+    public void setTablebase(final Tablebase tablebase) {
+        this.tablebase = tablebase;
+    }
+
+    void reset() {
+        this.stopped = false;
+    }
+
+    public long getNodes() {
+        return this.nodes;
+    }
+
+    private int negamax(int depth, int alpha, final int beta, final int ply) {
+        this.principalVariationLength[ply] = 0;
+
+        if (++this.nodes % NODES_BETWEEN_CHECKS == 0)
+            checkLimits();
+
+        if (this.stopped)
+            return 0;
+
+        if (ply > 0 && (this.board.getHalfMoveClock() >= 100 || this.board.isRepetition()))
+            return DRAW;
+
+        if (ply > 0
+                && this.tablebase != null
+                && this.board.getCastlingRights() == CastlingRights.NONE
+                && this.board.getEnPassantSquare() < 0) {
+
+            final int score = this.tablebase.probe(
+                    this.board.getBitBoards(),
+                    this.board.getColorOrdinal(),
+                    this.tablebaseSquares);
+
+            if (score != Tablebase.UNKNOWN)
+                return fromTranspositionScore(score, ply);
+        }
+
+        final boolean inCheck = this.board.isInCheck();
+
+        if (inCheck)
+            depth++;
+
+        if (depth <= 0)
+            return quiescence(alpha, beta, ply);
+
+        if (ply >= MAX_PLY - 1)
+            return Evaluator.evaluate(this.board);
+
+        final long key = this.board.getZobristKey();
+        final long entry = this.transpositionTable.probe(key);
+        int hashMove = EncodedMove.NONE;
+
+        if (entry != 0L) {
+            hashMove = TranspositionTable.getMove(entry);
+
+            if (ply > 0 && TranspositionTable.getDepth(entry) >= depth) {
+                final int score = fromTranspositionScore(TranspositionTable.getScore(entry), ply);
+                final int bound = TranspositionTable.getBound(entry);
+
+                if (bound == TranspositionTable.EXACT
+                        || (bound == TranspositionTable.LOWER_BOUND && score >= beta)
+                        || (bound == TranspositionTable.UPPER_BOUND && score <= alpha))
+                    return score;
+            }
+        }
+
+        final MoveList moves = this.moveBuffers[ply];
+        moves.clear();
+        this.board.generateMoves(moves);
+
+        this.moveOrdering.scoreMoves(this.board, moves, hashMove, ply);
+
+        if (ply == 0 && this.threadIndex > 0)
+            this.moveOrdering.rotateMoves(moves, ply, this.threadIndex);
+
+        final int originalAlpha = alpha;
+        int bestScore = -INFINITY;
+        int bestMove = EncodedMove.NONE;
+        int legalMoves = 0;
+
+        for (int i = 0; i < moves.size(); i++) {
+            this.moveOrdering.selectMove(moves, i, ply);
+
+            final int move = moves.get(i);
+
+            if (this.board.makeMove(move) == false)
+                continue;
+
+            legalMoves++;
+
+            final int score = -negamax(depth - 1, -beta, -alpha, ply + 1);
+            this.board.unmakeMove();
+
+            if (this.stopped)
+                return 0;
+
+            if (score > bestScore) {
+                bestScore = score;
+                bestMove = move;
+
+                if (score > alpha) {
+                    alpha = score;
+                    updatePrincipalVariation(ply, move);
+
+                    if (score >= beta) {
+                        if (EncodedMove.isCapture(move) == false && EncodedMove.isPromotion(move) == false)
+                            this.moveOrdering.updateQuietCutoff(this.board, moves, i, depth, ply);
+
+                        break;
+                    }
+                }
+            }
+        }
+
+        if (legalMoves == 0)
+            return inCheck ? -MATE + ply : DRAW;
+
+        final int bound = bestScore >= beta
+                ? TranspositionTable.LOWER_BOUND
+                : bestScore > originalAlpha ? TranspositionTable.EXACT : TranspositionTable.UPPER_BOUND;
+
+        this.transpositionTable.store(key, bestMove, toTranspositionScore(bestScore, ply), depth, bound);
+
+        return bestScore;
+    }
+
+    private int quiescence(int alpha, final int beta, final int ply) {
+        final int standPat = Evaluator.evaluate(this.board);
+
+        if (standPat >= beta || ply >= MAX_PLY - 1)
+            return standPat;
+
+        if (standPat > alpha)
+            alpha = standPat;
+
+        final MoveList moves = this.moveBuffers[ply];
+        moves.clear();
+        this.board.generateCaptures(moves);
+        this.moveOrdering.scoreCaptures(this.board, moves, ply);
+
+        int bestScore = standPat;
+
+        for (int i = 0; i < moves.size(); i++) {
+            this.moveOrdering.selectMove(moves, i, ply);
+
+            final int move = moves.get(i);
+
+            if (this.staticExchange.evaluate(this.board.getBitBoards(), move) < 0)
+                continue;
+
+            if (this.board.makeMove(move) == false)
+                continue;
+
+            if (++this.nodes % NODES_BETWEEN_CHECKS == 0)
+                checkLimits();
+
+            final int score = -quiescence(-beta, -alpha, ply + 1);
+            this.board.unmakeMove();
+
+            if (score > bestScore) {
+                bestScore = score;
+
+                if (score > alpha) {
+                    alpha = score;
+
+                    if (score >= beta)
+                        break;
+                }
+            }
+        }
+
+        return bestScore;
+    }
+
+    private void checkLimits() {
+        if (this.nodes >= this.nodeLimit || System.nanoTime() >= this.deadline)
+            this.stopped = true;
+    }
+
+    private void updatePrincipalVariation(final int ply, final int move) {
+        final int childLength = this.principalVariationLength[ply + 1];
+
+        this.principalVariation[ply][0] = move;
+        System.arraycopy(this.principalVariation[ply + 1], 0, this.principalVariation[ply], 1, childLength);
+        this.principalVariationLength[ply] = childLength + 1;
+    }
+
+    private static int toTranspositionScore(final int score, final int ply) {
+        if (score >= MATE_BOUND)
+            return score + ply;
+
+        if (score <= -MATE_BOUND)
+            return score - ply;
+
+        return score;
+    }
+
+    private static int fromTranspositionScore(final int score, final int ply) {
+        if (score >= MATE_BOUND)
+            return score - ply;
+
+        if (score <= -MATE_BOUND)
+            return score + ply;
+
+        return score;
+    }
+
+    private SearchResult createResult(
+            final Board board,
+            final int[] line,
+            final int score,
+            final int depth,
+            final long elapsedMillis) {
+
+        final List<Move> principalVariation = new ArrayList<>(line.length);
+        Board currentBoard = board;
+
+        for (final int encodedMove : line) {
+            final Move move = MoveFactory.create(currentBoard, encodedMove);
+
+            if (move == Move.NULL_MOVE)
+                break;
+
+            principalVariation.add(move);
+            currentBoard = move.execute();
+        }
+
+        final Move bestMove = principalVariation.isEmpty() ? Move.NULL_MOVE : principalVariation.get(0);
+
+        return new SearchResult(bestMove, principalVariation, score, depth, this.nodes, elapsedMillis);
+    }
+}
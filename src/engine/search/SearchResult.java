@@ -0,0 +1,67 @@
+package engine.search;
+
+import java.util.List;
+
+import engine.board.Move;
+
+public class SearchResult {
+    private final Move bestMove;
+    private final List<Move> principalVariation;
+    private final int score;
+    private final int depth;
+    private final long nodes;
+    private final long elapsedMillis;
+
+    SearchResult(
+            final Move bestMove,
+            final List<Move> principalVariation,
+            final int score,
+            final int depth,
+            final long nodes,
+            final long elapsedMillis) {
+
+        this.bestMove = bestMove;
+        this.principalVariation = principalVariation;
+        this.score = score;
+        this.depth = depth;
+        this.nodes = nodes;
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    public Move getBestMove() {
+        return this.bestMove;
+    }
+
+    public List<Move> getPrincipalVariation() {
+        return this.principalVariation;
+    }
+
+    public int getScore() {
+        return this.score;
+    }
+
+    public int getDepth() {
+        return this.depth;
+    }
+
+    public long getNodes() {
+        return this.nodes;
+    }
+
+    public long getElapsedMillis() {
+        return this.elapsedMillis;
+    }
+
+    public boolean isMateScore() {
+        return Math.abs(this.score) >= Search.MATE_BOUND;
+    }
+
+    @Override
+    public String toString() {
+        return "depth " + this.depth
+                + " score " + this.score
+                + " nodes " + this.nodes
+                + " time " + this.elapsedMillis
+                + " pv " + this.principalVariation;
+    }
+}
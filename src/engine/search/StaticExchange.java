@@ -0,0 +1,105 @@
+package engine.search;
+
+import engine.board.Attacks;
+import engine.board.BitBoards;
+import engine.board.EncodedMove;
+import engine.board.Position;
+import engine.pieces.Piece.PieceType;
+
+final class StaticExchange {
+    private static final int PAWN = PieceType.PAWN.ordinal();
+    private static final int BISHOP = PieceType.BISHOP.ordinal();
+    private static final int ROOK = PieceType.ROOK.ordinal();
+    private static final int QUEEN = PieceType.QUEEN.ordinal();
+    private static final int KING = PieceType.KING.ordinal();
+    private static final int MAX_EXCHANGES = 32;
+
+    private final int[] gains;
+
+    StaticExchange() {
+        this.gains = new int[MAX_EXCHANGES];
+    }
+
+    int evaluate(final BitBoards bitBoards, final int move) {
+        if (EncodedMove.isCastling(move))
+            return 0;
+
+        final int source = EncodedMove.getSource(move);
+        final int destination = EncodedMove.getDestination(move);
+        final int movedPiece = bitBoards.getPieceCode(source);
+        final int[] gains = this.gains;
+
+        long occupancy = bitBoards.getOccupancy() ^ BitBoards.getSquareBit(source);
+        int nextVictim = BitBoards.getTypeOrdinal(movedPiece);
+
+        if (EncodedMove.getFlags(move) == EncodedMove.EN_PASSANT) {
+            final int capturedSquare = destination + (destination > source ? -Position.NUM_FILES : Position.NUM_FILES);
+
+            gains[0] = Evaluator.getPieceValue(PAWN);
+            occupancy ^= BitBoards.getSquareBit(capturedSquare);
+        } else if (EncodedMove.isCapture(move)) {
+            gains[0] = Evaluator.getPieceValue(BitBoards.getTypeOrdinal(bitBoards.getPieceCode(destination)));
+        } else {
+            gains[0] = 0;
+        }
+
+        if (EncodedMove.isPromotion(move)) {
+            nextVictim = EncodedMove.getPromotionTypeOrdinal(move);
+            gains[0] += Evaluator.getPieceValue(nextVictim) - Evaluator.getPieceValue(PAWN);
+        }
+
+        final long diagonalSliders = getPieces(bitBoards, BISHOP) | getPieces(bitBoards, QUEEN);
+        final long straightSliders = getPieces(bitBoards, ROOK) | getPieces(bitBoards, QUEEN);
+
+        long attackers = Attacks.getAttackers(bitBoards, destination, occupancy) & occupancy;
+        int colorOrdinal = BitBoards.getColorOrdinal(movedPiece) ^ 1;
+        int depth = 0;
+
+        while (depth + 1 < MAX_EXCHANGES) {
+            final long ownAttackers = attackers & bitBoards.getOccupancy(colorOrdinal);
+
+            if (ownAttackers == 0)
+                break;
+
+            int attackerType = PAWN;
+            long attackerBit = 0;
+
+            for (; attackerType <= KING; attackerType++) {
+                attackerBit = ownAttackers & bitBoards.getPieces(BitBoards.getPieceCode(colorOrdinal, attackerType));
+
+                if (attackerBit != 0)
+                    break;
+            }
+
+            if (attackerType == KING && (attackers & bitBoards.getOccupancy(colorOrdinal ^ 1)) != 0)
+                break;
+
+            depth++;
+            gains[depth] = Evaluator.getPieceValue(nextVictim) - gains[depth - 1];
+
+            occupancy ^= Long.lowestOneBit(attackerBit);
+
+            if (attackerType == PAWN || attackerType == BISHOP || attackerType == QUEEN)
+                attackers |= Attacks.getBishopAttacks(destination, occupancy) & diagonalSliders;
+
+            if (attackerType == ROOK || attackerType == QUEEN)
+                attackers |= Attacks.getRookAttacks(destination, occupancy) & straightSliders;
+
+            attackers &= occupancy;
+            nextVictim = attackerType;
+            colorOrdinal ^= 1;
+        }
+
+        while (depth > 0) {
+            gains[depth - 1] = -Math.max(-gains[depth - 1], gains[depth]);
+            depth--;
+        }
+
+        return gains[0];
+    }
+
+    private static long getPieces(final BitBoards bitBoards, final int typeOrdinal) {
+        return bitBoards.getPieces(BitBoards.getPieceCode(0, typeOrdinal))
+                | bitBoards.getPieces(BitBoards.getPieceCode(1, typeOrdinal));
+    }
+}
@@ -0,0 +1,144 @@
+package engine.search;
+
+import java.util.Arrays;
+
+import engine.board.EncodedMove;
+
+public final class TranspositionTable {
+    public static final int DEFAULT_SIZE_MB = 64;
+
+    public static final int UPPER_BOUND = 1;
+    public static final int LOWER_BOUND = 2;
+    public static final int EXACT = 3;
+
+    private static final int BYTES_PER_ENTRY = 2 * Long.BYTES;
+    private static final int ENTRIES_PER_BUCKET = 4;
+    private static final int LONGS_PER_BUCKET = 2 * ENTRIES_PER_BUCKET;
+
+    private static final int SCORE_SHIFT = 16;
+    private static final int DEPTH_SHIFT = 32;
+    private static final int BOUND_SHIFT = 40;
+    private static final int GENERATION_SHIFT = 42;
+    private static final int GENERATION_MASK = 0x3F;
+
+    private final long[] table;
+    private final long bucketMask;
+
+    private volatile int generation;
+
+    public TranspositionTable() {
+        this(DEFAULT_SIZE_MB);
+    }
+
+    public TranspositionTable(final int sizeInMegabytes) {
+        if (sizeInMegabytes <= 0)
+            throw new IllegalArgumentException("Transposition table size must be positive: " + sizeInMegabytes);
+
+        final long entries = ((long) sizeInMegabytes << 20) / BYTES_PER_ENTRY;
+        final long buckets = Long.highestOneBit(Math.max(1, entries / ENTRIES_PER_BUCKET));
+        final long maxBuckets = Integer.highestOneBit(Integer.MAX_VALUE / LONGS_PER_BUCKET);
+
+        this.bucketMask = Math.min(buckets, maxBuckets) - 1;
+        this.table = new long[(int) (this.bucketMask + 1) * LONGS_PER_BUCKET];
+        this.generation = 0;
+    }
+
+    public void newSearch() {
+        this.generation = (this.generation + 1) & GENERATION_MASK;
+    }
+
+    public void clear() {
+        Arrays.fill(this.table, 0L);
+        this.generation = 0;
+    }
+
+    public long probe(final long key) {
+        final int bucket = getBucketIndex(key);
+
+        for (int slot = bucket; slot < bucket + LONGS_PER_BUCKET; slot += 2) {
+            final long data = this.table[slot + 1];
+
+            if ((this.table[slot] ^ data) == key)
+                return data;
+        }
+
+        return 0L;
+    }
+
+    public void store(final long key, final int move, final int score, final int depth, final int bound) {
+        final int bucket = getBucketIndex(key);
+        final int currentGeneration = this.generation;
+
+        int replacedSlot = bucket;
+        int lowestWorth = Integer.MAX_VALUE;
+        int storedMove = move;
+
+        for (int slot = bucket; slot < bucket + LONGS_PER_BUCKET; slot += 2) {
+            final long data = this.table[slot + 1];
+
+            if ((this.table[slot] ^ data) == key) {
+                if (bound != EXACT && depth < getDepth(data) - 2 && getGeneration(data) == currentGeneration)
+                    return;
+
+                if (storedMove == EncodedMove.NONE)
+                    storedMove = getMove(data);
+
+                replacedSlot = slot;
+                break;
+            }
+
+            final int age = (currentGeneration - getGeneration(data)) & GENERATION_MASK;
+            final int worth = data == 0L ? Integer.MIN_VALUE : getDepth(data) - 8 * age;
+
+            if (worth < lowestWorth) {
+                lowestWorth = worth;
+                replacedSlot = slot;
+            }
+        }
+
+        final long data = (storedMove & 0xFFFFL)
+                | (score & 0xFFFFL) << SCORE_SHIFT
+                | (long) (Math.max(0, Math.min(depth, 0xFF))) << DEPTH_SHIFT
+                | (long) bound << BOUND_SHIFT
+                | (long) currentGeneration << GENERATION_SHIFT;
+
+        this.table[replacedSlot] = key ^ data;
+        this.table[replacedSlot + 1] = data;
+    }
+
+    public int getHashFull() {
+        final int sampledBuckets = (int) Math.min(1000 / ENTRIES_PER_BUCKET, this.bucketMask + 1);
+        final int currentGeneration = this.generation;
+        int used = 0;
+
+        for (int slot = 0; slot < sampledBuckets * LONGS_PER_BUCKET; slot += 2)
+            if (this.table[slot + 1] != 0L && getGeneration(this.table[slot + 1]) == currentGeneration)
+                used++;
+
+        return used * 1000 / (sampledBuckets * ENTRIES_PER_BUCKET);
+    }
+
+    private int getBucketIndex(final long key) {
+        return (int) (key & this.bucketMask) * LONGS_PER_BUCKET;
+    }
+
+    public static int getMove(final long data) {
+        return (int) (data & 0xFFFF);
+    }
+
+    public static int getScore(final long data) {
+        return (short) (data >>> SCORE_SHIFT);
+    }
+
+    public static int getDepth(final long data) {
+        return (int) ((data >>> DEPTH_SHIFT) & 0xFF);
+    }
+
+    public static int getBound(final long data) {
+        return (int) ((data >>> BOUND_SHIFT) & 0x3);
+    }
+
+    private static int getGeneration(final long data) {
+        return (int) ((data >>> GENERATION_SHIFT) & GENERATION_MASK);
+    }
+}
@@ -0,0 +1,68 @@
+package engine.tablebase;
+
+public class GenerationResult {
+    private final Material material;
+    private final long entries;
+    private final long wins;
+    private final long losses;
+    private final long draws;
+    private final int longest;
+    private final long elapsedMillis;
+
+    GenerationResult(
+            final Material material,
+            final long entries,
+            final long wins,
+            final long losses,
+            final long draws,
+            final int longest,
+            final long elapsedMillis) {
+
+        this.material = material;
+        this.entries = entries;
+        this.wins = wins;
+        this.losses = losses;
+        this.draws = draws;
+        this.longest = longest;
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    public Material getMaterial() {
+        return this.material;
+    }
+
+    public long getEntries() {
+        return this.entries;
+    }
+
+    public long getWins() {
+        return this.wins;
+    }
+
+    public long getLosses() {
+        return this.losses;
+    }
+
+    public long getDraws() {
+        return this.draws;
+    }
+
+    public int getLongest() {
+        return this.longest;
+    }
+
+    public long getElapsedMillis() {
+        return this.elapsedMillis;
+    }
+
+    @Override
+    public String toString() {
+        return this.material + ": "
+                + this.entries + " entries, "
+                + this.wins + " wins, "
+                + this.losses + " losses, "
+                + this.draws + " draws, longest mate "
+                + this.longest + " plies, "
+                + this.elapsedMillis + " ms";
+    }
+}
@@ -0,0 +1,290 @@
+package engine.tablebase;
+
+import java.util.Arrays;
+
+import engine.Color;
+import engine.board.BitBoards;
+import engine.board.Position;
+import engine.board.Tile;
+import engine.pieces.Piece.PieceType;
+
+public final class Material {
+    public static final int WHITE_KING = 0;
+    public static final int BLACK_KING = 1;
+    public static final int FIRST_PIECE = 2;
+    public static final int MAX_PIECES = 3;
+
+    private static final int SIGNATURE_BITS = 3;
+    private static final int COLOR_SIGNATURE_BITS = SIGNATURE_BITS * BitBoards.NUM_PIECE_TYPES;
+    private static final long COLOR_SIGNATURE_MASK = (1L << COLOR_SIGNATURE_BITS) - 1;
+    private static final String PIECE_LETTERS = "PNBRQK";
+    private static final int[] PIECE_STRENGTHS = {1, 3, 3, 5, 9, 0};
+    private static final int KING = PieceType.KING.ordinal();
+    private static final int PAWN = PieceType.PAWN.ordinal();
+    private static final int[] PAWNLESS_REGION = createRegion(false);
+    private static final int[] PAWN_REGION = createRegion(true);
+    private static final int[] PAWNLESS_REGION_SQUARES = createRegionSquares(PAWNLESS_REGION);
+    private static final int[] PAWN_REGION_SQUARES = createRegionSquares(PAWN_REGION);
+
+    private final int[] pieceCodes;
+    private final String name;
+    private final boolean hasPawns;
+    private final int[] region;
+    private final int[] regionSquares;
+    private final long entryCount;
+    private final long signature;
+
+    private Material(final int[] pieceCodes) {
+        if (pieceCodes.length > MAX_PIECES)
+            throw new IllegalArgumentException("Tablebases support at most " + MAX_PIECES + " pieces besides kings");
+
+        this.pieceCodes = sort(pieceCodes);
+        this.name = createName(this.pieceCodes);
+        this.hasPawns = containsPawn(this.pieceCodes);
+        this.region = this.hasPawns ? PAWN_REGION : PAWNLESS_REGION;
+        this.regionSquares = this.hasPawns ? PAWN_REGION_SQUARES : PAWNLESS_REGION_SQUARES;
+        this.entryCount = 2L * this.regionSquares.length * Tile.NUM_TILES << (6 * this.pieceCodes.length);
+        this.signature = createSignature(this.pieceCodes);
+    }
+
+    private static long createSignature(final int[] pieceCodes) {
+        long signature = 0;
+
+        for (final int pieceCode : pieceCodes)
+            signature += getSignature(pieceCode, 1);
+
+        return signature;
+    }
+
+    static long getSignature(final int pieceCode, final int count) {
+        return (long) count << (SIGNATURE_BITS * pieceCode);
+    }
+
+    static long flipSignature(final long signature) {
+        return signature >>> COLOR_SIGNATURE_BITS | (signature & COLOR_SIGNATURE_MASK) << COLOR_SIGNATURE_BITS;
+    }
+
+    private static int[] createRegion(final boolean hasPawns) {
+        final int[] region = new int[Tile.NUM_TILES];
+        int index = 0;
+
+        for (int square = 0; square < Tile.NUM_TILES; square++) {
+            final int file = square % Position.NUM_FILES;
+            final int rank = square / Position.NUM_FILES;
+            final boolean inRegion = hasPawns ? file < 4 : file < 4 && rank <= file;
+
+            region[square] = inRegion ? index++ : -1;
+        }
+
+        return region;
+    }
+
+    private static int[] createRegionSquares(final int[] region) {
+        int size = 0;
+
+        for (final int index : region)
+            if (index >= 0)
+                size++;
+
+        final int[] squares = new int[size];
+
+        for (int square = 0; square < Tile.NUM_TILES; square++)
+            if (region[square] >= 0)
+                squares[region[square]] = square;
+
+        return squares;
+    }
+
+    private static int[] sort(final int[] pieceCodes) {
+        final int[] keys = new int[pieceCodes.length];
+
+        for (int i = 0; i < pieceCodes.length; i++)
+            keys[i] = getSortKey(pieceCodes[i]);
+
+        Arrays.sort(keys);
+
+        final int[] sorted = new int[keys.length];
+
+        for (int i = 0; i < keys.length; i++)
+            sorted[i] = BitBoards.getPieceCode(keys[i] / BitBoards.NUM_PIECE_TYPES, KING - keys[i] % BitBoards.NUM_PIECE_TYPES);
+
+        return sorted;
+    }
+
+    private static int getSortKey(final int pieceCode) {
+        return BitBoards.getColorOrdinal(pieceCode) * BitBoards.NUM_PIECE_TYPES
+                + KING - BitBoards.getTypeOrdinal(pieceCode);
+    }
+
+    private static String createName(final int[] pieceCodes) {
+        final StringBuilder name = new StringBuilder("K");
+        int colorOrdinal = Color.WHITE.ordinal();
+
+        for (final int pieceCode : pieceCodes) {
+            if (BitBoards.getColorOrdinal(pieceCode) != colorOrdinal) {
+                name.append('K');
+                colorOrdinal = BitBoards.getColorOrdinal(pieceCode);
+            }
+
+            name.append(PIECE_LETTERS.charAt(BitBoards.getTypeOrdinal(pieceCode)));
+        }
+
+        if (colorOrdinal == Color.WHITE.ordinal())
+            name.append('K');
+
+        return name.toString();
+    }
+
+    private static boolean containsPawn(final int[] pieceCodes) {
+        for (final int pieceCode : pieceCodes)
+            if (BitBoards.getTypeOrdinal(pieceCode) == PAWN)
+                return true;
+
+        return false;
+    }
+
+    public static Material parse(final String name) {
+        final int blackKing = name.indexOf('K', 1);
+
+        if (name.isEmpty() || name.charAt(0) != 'K' || blackKing < 0 || name.indexOf('K', blackKing + 1) >= 0)
+            throw new IllegalArgumentException("Invalid material: " + name);
+
+        final int[] pieceCodes = new int[name.length() - 2];
+        int count = 0;
+
+        for (int i = 1; i < name.length(); i++) {
+            if (i == blackKing)
+                continue;
+
+            final int typeOrdinal = PIECE_LETTERS.indexOf(name.charAt(i));
+
+            if (typeOrdinal < 0 || typeOrdinal == KING)
+                throw new IllegalArgumentException("Invalid material: " + name);
+
+            final Color color = i < blackKing ? Color.WHITE : Color.BLACK;
+            pieceCodes[count++] = BitBoards.getPieceCode(color.ordinal(), typeOrdinal);
+        }
+
+        return new Material(pieceCodes);
+    }
+
+    public static Material of(final int[] pieceCodes) {
+        return new Material(pieceCodes);
+    }
+
+    public String getName() {
+        return this.name;
+    }
+
+    public int getPieceCount() {
+        return this.pieceCodes.length;
+    }
+
+    public int getPieceCode(final int piece) {
+        return this.pieceCodes[piece];
+    }
+
+    public long getEntryCount() {
+        return this.entryCount;
+    }
+
+    long getSignature() {
+        return this.signature;
+    }
+
+    public boolean isCanonical() {
+        final int whiteStrength = getStrength(Color.WHITE.ordinal());
+        final int blackStrength = getStrength(Color.BLACK.ordinal());
+
+        if (whiteStrength != blackStrength)
+            return whiteStrength > blackStrength;
+
+        return flip().name.compareTo(this.name) <= 0;
+    }
+
+    private int getStrength(final int colorOrdinal) {
+        int strength = 0;
+
+        for (final int pieceCode : this.pieceCodes)
+            if (BitBoards.getColorOrdinal(pieceCode) == colorOrdinal)
+                strength += PIECE_STRENGTHS[BitBoards.getTypeOrdinal(pieceCode)];
+
+        return strength;
+    }
+
+    public Material flip() {
+        final int[] flipped = new int[this.pieceCodes.length];
+
+        for (int i = 0; i < flipped.length; i++)
+            flipped[i] = flipColor(this.pieceCodes[i]);
+
+        return new Material(flipped);
+    }
+
+    static int flipColor(final int pieceCode) {
+        return BitBoards.getPieceCode(BitBoards.getColorOrdinal(pieceCode) ^ 1, BitBoards.getTypeOrdinal(pieceCode));
+    }
+
+    long getIndex(final int colorOrdinal, final int[] squares) {
+        final int whiteKing = squares[WHITE_KING];
+        final int file = whiteKing % Position.NUM_FILES;
+        final int rank = whiteKing / Position.NUM_FILES;
+        final boolean flipFiles = file > 3;
+        final boolean flipRanks = this.hasPawns == false && rank > 3;
+        final int normalizedFile = flipFiles ? 7 - file : file;
+        final int normalizedRank = flipRanks ? 7 - rank : rank;
+        final boolean transpose = this.hasPawns == false && normalizedRank > normalizedFile;
+
+        long index = colorOrdinal * this.regionSquares.length
+                + this.region[transform(whiteKing, flipFiles, flipRanks, transpose)];
+
+        for (int i = BLACK_KING; i < FIRST_PIECE + this.pieceCodes.length; i++)
+            index = index * Tile.NUM_TILES + transform(squares[i], flipFiles, flipRanks, transpose);
+
+        return index;
+    }
+
+    int decode(long index, final int[] squares) {
+        for (int i = FIRST_PIECE + this.pieceCodes.length - 1; i >= BLACK_KING; i--) {
+            squares[i] = (int) (index % Tile.NUM_TILES);
+            index /= Tile.NUM_TILES;
+        }
+
+        squares[WHITE_KING] = this.regionSquares[(int) (index % this.regionSquares.length)];
+
+        return (int) (index / this.regionSquares.length);
+    }
+
+    private static int transform(
+            final int square,
+            final boolean flipFiles,
+            final boolean flipRanks,
+            final boolean transpose) {
+
+        int file = square % Position.NUM_FILES;
+        int rank = square / Position.NUM_FILES;
+
+        if (flipFiles)
+            file = 7 - file;
+
+        if (flipRanks)
+            rank = 7 - rank;
+
+        return transpose ? file * Position.NUM_FILES + rank : rank * Position.NUM_FILES + file;
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        return other instanceof Material && ((Material) other).name.equals(this.name);
+    }
+
+    @Override
+    public int hashCode() {
+        return this.name.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return this.name;
+    }
+}
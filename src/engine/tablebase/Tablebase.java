@@ -0,0 +1,124 @@
+package engine.tablebase;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+import engine.board.BitBoards;
+import engine.board.Board;
+import engine.board.CastlingRights;
+import engine.pieces.Piece.PieceType;
+import engine.search.Search;
+
+public final class Tablebase {
+    public static final int UNKNOWN = Integer.MIN_VALUE;
+    public static final int SQUARE_COUNT = Material.FIRST_PIECE + Material.MAX_PIECES;
+
+    private static final int KING = PieceType.KING.ordinal();
+    private static final int WHITE_KING = BitBoards.getPieceCode(0, KING);
+    private static final int BLACK_KING = BitBoards.getPieceCode(1, KING);
+    private static final int FLIP_RANKS = 56;
+
+    private final long[] signatures;
+    private final TablebaseFile[] files;
+    private final int maxPieces;
+
+    public Tablebase(final Path directory) throws IOException {
+        final Map<Long, TablebaseFile> files = new TreeMap<>();
+        int maxPieces = 0;
+
+        try (DirectoryStream<Path> paths = Files.newDirectoryStream(directory, "*" + TablebaseFile.EXTENSION)) {
+            for (final Path path : paths) {
+                final String fileName = path.getFileName().toString();
+                final Material material = Material.parse(
+                        fileName.substring(0, fileName.length() - TablebaseFile.EXTENSION.length()));
+
+                files.put(material.getSignature(), TablebaseFile.open(path, material));
+                maxPieces = Math.max(maxPieces, Material.FIRST_PIECE + material.getPieceCount());
+            }
+        }
+
+        this.signatures = new long[files.size()];
+        this.files = new TablebaseFile[files.size()];
+        this.maxPieces = maxPieces;
+
+        int index = 0;
+
+        for (final Map.Entry<Long, TablebaseFile> entry : files.entrySet()) {
+            this.signatures[index] = entry.getKey();
+            this.files[index] = entry.getValue();
+            index++;
+        }
+    }
+
+    public int getMaxPieces() {
+        return this.maxPieces;
+    }
+
+    public int getTableCount() {
+        return this.files.length;
+    }
+
+    public int probe(final Board board) {
+        if (board.getCastlingRights() != CastlingRights.NONE || board.getEnPassantSquare() >= 0)
+            return UNKNOWN;
+
+        return probe(board.getBitBoards(), board.getMoveMaker().ordinal(), new int[SQUARE_COUNT]);
+    }
+
+    public int probe(final BitBoards bitBoards, final int colorOrdinal, final int[] squares) {
+        final int pieceCount = Long.bitCount(bitBoards.getOccupancy()) - Material.FIRST_PIECE;
+
+        if (pieceCount < 0 || pieceCount + Material.FIRST_PIECE > this.maxPieces)
+            return UNKNOWN;
+
+        final long whiteKing = bitBoards.getPieces(WHITE_KING);
+        final long blackKing = bitBoards.getPieces(BLACK_KING);
+
+        if (Long.bitCount(whiteKing) != 1 || Long.bitCount(blackKing) != 1)
+            return UNKNOWN;
+
+        long signature = 0;
+
+        for (int pieceCode = 0; pieceCode < BitBoards.NUM_PIECE_CODES; pieceCode++)
+            if (pieceCode != WHITE_KING && pieceCode != BLACK_KING)
+                signature += Material.getSignature(pieceCode, Long.bitCount(bitBoards.getPieces(pieceCode)));
+
+        int fileIndex = Arrays.binarySearch(this.signatures, signature);
+        final boolean flipped = fileIndex < 0;
+
+        if (flipped)
+            fileIndex = Arrays.binarySearch(this.signatures, Material.flipSignature(signature));
+
+        if (fileIndex < 0)
+            return UNKNOWN;
+
+        final TablebaseFile file = this.files[fileIndex];
+        final Material material = file.getMaterial();
+        final int flip = flipped ? FLIP_RANKS : 0;
+
+        squares[Material.WHITE_KING] = Long.numberOfTrailingZeros(flipped ? blackKing : whiteKing) ^ flip;
+        squares[Material.BLACK_KING] = Long.numberOfTrailingZeros(flipped ? whiteKing : blackKing) ^ flip;
+
+        for (int i = 0; i < material.getPieceCount();) {
+            final int pieceCode = material.getPieceCode(i);
+            long pieces = bitBoards.getPieces(flipped ? Material.flipColor(pieceCode) : pieceCode);
+
+            for (; pieces != 0; pieces &= pieces - 1)
+                squares[Material.FIRST_PIECE + i++] = Long.numberOfTrailingZeros(pieces) ^ flip;
+        }
+
+        final int code = file.getCode(material.getIndex(flipped ? colorOrdinal ^ 1 : colorOrdinal, squares));
+
+        if (code == 0)
+            return Search.DRAW;
+
+        final int plies = code - 1;
+
+        return plies % 2 == 1 ? Search.MATE - plies : -(Search.MATE - plies);
+    }
+}
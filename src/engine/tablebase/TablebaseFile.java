@@ -0,0 +1,114 @@
+package engine.tablebase;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+final class TablebaseFile {
+    static final String EXTENSION = ".tb";
+
+    private static final int MAGIC = 0x54424C31;
+    private static final int HEADER_SIZE = 16;
+    private static final int PADDING = Long.BYTES;
+    private static final int MIN_BITS_PER_ENTRY = 2;
+
+    private final Material material;
+    private final MappedByteBuffer data;
+    private final int bitsPerEntry;
+    private final long mask;
+
+    private TablebaseFile(final Material material, final MappedByteBuffer data, final int bitsPerEntry) {
+        this.material = material;
+        this.data = data;
+        this.bitsPerEntry = bitsPerEntry;
+        this.mask = (1L << bitsPerEntry) - 1;
+    }
+
+    static TablebaseFile open(final Path path, final Material material) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            final long size = channel.size();
+
+            if (size < HEADER_SIZE || size > Integer.MAX_VALUE)
+                throw new IllegalArgumentException("Invalid tablebase size " + size + ": " + path);
+
+            final MappedByteBuffer data = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            data.order(ByteOrder.LITTLE_ENDIAN);
+
+            final int bitsPerEntry = data.getInt(Integer.BYTES);
+            final long entryCount = data.getLong(Long.BYTES);
+
+            if (data.getInt(0) != MAGIC
+                    || bitsPerEntry < MIN_BITS_PER_ENTRY
+                    || bitsPerEntry > Byte.SIZE
+                    || entryCount != material.getEntryCount()
+                    || size < HEADER_SIZE + getDataSize(entryCount, bitsPerEntry))
+                throw new IllegalArgumentException("Invalid tablebase header: " + path);
+
+            return new TablebaseFile(material, data, bitsPerEntry);
+        }
+    }
+
+    static void write(final Path path, final byte[] codes) throws IOException {
+        int maxCode = 0;
+
+        for (final byte code : codes)
+            maxCode = Math.max(maxCode, toDiskCode(code & 0xFF));
+
+        final int bitsPerEntry = Math.max(MIN_BITS_PER_ENTRY, Integer.SIZE - Integer.numberOfLeadingZeros(maxCode));
+        final long dataSize = getDataSize(codes.length, bitsPerEntry);
+
+        if (HEADER_SIZE + dataSize > Integer.MAX_VALUE)
+            throw new IllegalArgumentException("Tablebase too large: " + path);
+
+        final ByteBuffer buffer = ByteBuffer.allocate((int) (HEADER_SIZE + dataSize)).order(ByteOrder.LITTLE_ENDIAN);
+        final byte[] bytes = buffer.array();
+
+        buffer.putInt(MAGIC).putInt(bitsPerEntry).putLong(codes.length);
+
+        for (int index = 0; index < codes.length; index++) {
+            final int code = toDiskCode(codes[index] & 0xFF);
+            final long offset = (long) index * bitsPerEntry;
+            final int position = HEADER_SIZE + (int) (offset >>> 3);
+            final int shift = (int) (offset & 7);
+
+            bytes[position] |= code << shift;
+
+            if (shift + bitsPerEntry > Byte.SIZE)
+                bytes[position + 1] |= code >>> (Byte.SIZE - shift);
+        }
+
+        buffer.rewind();
+
+        try (FileChannel channel = FileChannel.open(
+                path,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.WRITE)) {
+
+            while (buffer.hasRemaining())
+                channel.write(buffer);
+        }
+    }
+
+    private static long getDataSize(final long entryCount, final int bitsPerEntry) {
+        return (entryCount * bitsPerEntry + 7) / Byte.SIZE + PADDING;
+    }
+
+    private static int toDiskCode(final int code) {
+        return code == TablebaseGenerator.DRAW || code == TablebaseGenerator.INVALID ? 0 : code;
+    }
+
+    Material getMaterial() {
+        return this.material;
+    }
+
+    int getCode(final long index) {
+        final long offset = index * this.bitsPerEntry;
+
+        return (int) ((this.data.getLong(HEADER_SIZE + (int) (offset >>> 3)) >>> (offset & 7)) & this.mask);
+    }
+}
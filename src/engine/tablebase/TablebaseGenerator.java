@@ -0,0 +1,460 @@
+package engine.tablebase;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.LongAdder;
+
+import engine.board.Attacks;
+import engine.board.BitBoards;
+import engine.board.EncodedMove;
+import engine.board.MoveGenerator;
+import engine.board.MoveList;
+import engine.pieces.Piece.PieceType;
+
+public final class TablebaseGenerator {
+    static final int UNKNOWN = 0;
+    static final int MAX_CODE = 0xFD;
+    static final int DRAW = 0xFE;
+    static final int INVALID = 0xFF;
+
+    private static final int SWEEP_THRESHOLD = 1 << 14;
+    private static final int PAWN = PieceType.PAWN.ordinal();
+    private static final int KING = PieceType.KING.ordinal();
+    private static final long BACK_RANKS = BitBoards.RANK_1 | BitBoards.RANK_8;
+
+    private final ForkJoinPool pool;
+    private final Map<Long, Target> targets;
+
+    public TablebaseGenerator() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    public TablebaseGenerator(final int parallelism) {
+        this.pool = new ForkJoinPool(parallelism);
+        this.targets = new HashMap<>();
+    }
+
+    public List<GenerationResult> generate(final Material material, final Path directory) throws IOException {
+        final List<GenerationResult> results = new ArrayList<>();
+
+        generate(material, directory, results);
+
+        return results;
+    }
+
+    private void generate(final Material material, final Path directory, final List<GenerationResult> results)
+            throws IOException {
+
+        final Material canonical = material.isCanonical() ? material : material.flip();
+
+        if (this.targets.containsKey(canonical.getSignature()))
+            return;
+
+        int successorLongest = 0;
+
+        for (final Material successor : getSuccessorMaterials(canonical)) {
+            generate(successor, directory, results);
+            successorLongest = Math.max(successorLongest, this.targets.get(successor.getSignature()).table.longest);
+        }
+
+        final Table table = new Table(canonical);
+
+        this.targets.put(canonical.getSignature(), new Target(table, false));
+        this.targets.putIfAbsent(canonical.flip().getSignature(), new Target(table, true));
+
+        final long start = System.nanoTime();
+        int plies = 0;
+
+        while (sweep(table, plies) > 0 || plies <= successorLongest) {
+            plies++;
+
+            if (plies >= MAX_CODE)
+                throw new IllegalStateException("Distance to mate exceeds " + (MAX_CODE - 1) + " plies in " + canonical);
+        }
+
+        final byte[] codes = table.codes;
+        long wins = 0;
+        long losses = 0;
+        long draws = 0;
+        int longest = 0;
+
+        for (int index = 0; index < codes.length; index++) {
+            final int code = codes[index] & 0xFF;
+
+            if (code == UNKNOWN)
+                codes[index] = (byte) DRAW;
+
+            if (code == UNKNOWN || code == DRAW) {
+                draws++;
+            } else if (code != INVALID) {
+                if ((code - 1) % 2 == 1)
+                    wins++;
+                else
+                    losses++;
+
+                longest = Math.max(longest, code - 1);
+            }
+        }
+
+        table.longest = longest;
+
+        Files.createDirectories(directory);
+        TablebaseFile.write(directory.resolve(canonical.getName() + TablebaseFile.EXTENSION), codes);
+
+        results.add(new GenerationResult(
+                canonical,
+                codes.length,
+                wins,
+                losses,
+                draws,
+                longest,
+                (System.nanoTime() - start) / 1_000_000));
+    }
+
+    private static List<Material> getSuccessorMaterials(final Material material) {
+        final List<Material> successors = new ArrayList<>();
+        final int count = material.getPieceCount();
+
+        for (int captured = 0; captured < count; captured++) {
+            final int[] pieceCodes = new int[count - 1];
+
+            for (int i = 0, j = 0; i < count; i++)
+                if (i != captured)
+                    pieceCodes[j++] = material.getPieceCode(i);
+
+            successors.add(Material.of(pieceCodes));
+        }
+
+        for (int promoted = 0; promoted < count; promoted++) {
+            final int pawn = material.getPieceCode(promoted);
+
+            if (BitBoards.getTypeOrdinal(pawn) != PAWN)
+                continue;
+
+            for (int type = PieceType.KNIGHT.ordinal(); type < KING; type++) {
+                final int[] pieceCodes = new int[count];
+
+                for (int i = 0; i < count; i++)
+                    pieceCodes[i] = material.getPieceCode(i);
+
+                pieceCodes[promoted] = BitBoards.getPieceCode(BitBoards.getColorOrdinal(pawn), type);
+                successors.add(Material.of(pieceCodes));
+
+                for (int captured = 0; captured < count; captured++) {
+                    if (captured == promoted
+                            || BitBoards.getColorOrdinal(material.getPieceCode(captured))
+                                    == BitBoards.getColorOrdinal(pawn))
+                        continue;
+
+                    final int[] capturedCodes = new int[count - 1];
+
+                    for (int i = 0, j = 0; i < count; i++)
+                        if (i != captured)
+                            capturedCodes[j++] = pieceCodes[i];
+
+                    successors.add(Material.of(capturedCodes));
+                }
+            }
+        }
+
+        return successors;
+    }
+
+    private long sweep(final Table table, final int plies) {
+        final LongAdder resolved = new LongAdder();
+
+        this.pool.invoke(new Sweep(table, plies, 0, table.codes.length, resolved));
+
+        return resolved.sum();
+    }
+
+    private static final class Table {
+        private final Material material;
+        private final byte[] codes;
+        private int longest;
+
+        Table(final Material material) {
+            if (material.getEntryCount() > Integer.MAX_VALUE)
+                throw new IllegalArgumentException("Tablebase too large: " + material);
+
+            this.material = material;
+            this.codes = new byte[(int) material.getEntryCount()];
+        }
+    }
+
+    private static final class Target {
+        private final Table table;
+        private final boolean flipped;
+
+        Target(final Table table, final boolean flipped) {
+            this.table = table;
+            this.flipped = flipped;
+        }
+    }
+
+    private final class Sweep extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final Table table;
+        private final int plies;
+        private final int start;
+        private final int end;
+        private final LongAdder resolved;
+
+        Sweep(final Table table, final int plies, final int start, final int end, final LongAdder resolved) {
+            this.table = table;
+            this.plies = plies;
+            this.start = start;
+            this.end = end;
+            this.resolved = resolved;
+        }
+
+        @Override
+        protected void compute() {
+            if (this.end - this.start > SWEEP_THRESHOLD) {
+                final int middle = (this.start + this.end) >>> 1;
+
+                invokeAll(
+                        new Sweep(this.table, this.plies, this.start, middle, this.resolved),
+                        new Sweep(this.table, this.plies, middle, this.end, this.resolved));
+                return;
+            }
+
+            final Worker worker = new Worker(this.table.material);
+            final byte[] codes = this.table.codes;
+            long count = 0;
+
+            for (int index = this.start; index < this.end; index++) {
+                if ((codes[index] & 0xFF) != UNKNOWN)
+                    continue;
+
+                final int code = this.plies == 0 ? worker.initialize(index) : worker.resolve(index, this.plies);
+
+                if (code != UNKNOWN) {
+                    codes[index] = (byte) code;
+                    count++;
+                }
+            }
+
+            this.resolved.add(count);
+        }
+    }
+
+    private final class Worker {
+        private final Material material;
+        private final int pieceCount;
+        private final MoveList moves;
+        private final int[] squares;
+        private final int[] pieceCodes;
+        private final int[] successorCodes;
+        private final int[] successorSquares;
+        private final int[] orderedSquares;
+        private BitBoards bitBoards;
+        private int colorOrdinal;
+
+        Worker(final Material material) {
+            this.material = material;
+            this.pieceCount = material.getPieceCount();
+            this.moves = new MoveList();
+            this.squares = new int[Material.FIRST_PIECE + Material.MAX_PIECES];
+            this.pieceCodes = new int[Material.FIRST_PIECE + this.pieceCount];
+            this.successorCodes = new int[Material.MAX_PIECES];
+            this.successorSquares = new int[Material.FIRST_PIECE + Material.MAX_PIECES];
+            this.orderedSquares = new int[Material.FIRST_PIECE + Material.MAX_PIECES];
+
+            this.pieceCodes[Material.WHITE_KING] = BitBoards.getPieceCode(0, KING);
+            this.pieceCodes[Material.BLACK_KING] = BitBoards.getPieceCode(1, KING);
+
+            for (int i = 0; i < this.pieceCount; i++)
+                this.pieceCodes[Material.FIRST_PIECE + i] = material.getPieceCode(i);
+        }
+
+        int initialize(final int index) {
+            if (setUp(index) == false)
+                return INVALID;
+
+            if (this.moves.isEmpty())
+                return isInCheck() ? 1 : DRAW;
+
+            return UNKNOWN;
+        }
+
+        int resolve(final int index, final int plies) {
+            setUp(index);
+
+            final boolean isWinIteration = plies % 2 == 1;
+            boolean allLose = true;
+            boolean reachesPlies = false;
+
+            for (int i = 0; i < this.moves.size(); i++) {
+                final int code = getSuccessorCode(this.moves.get(i));
+                final boolean isLoss = code >= 1 && code <= MAX_CODE && (code - 1) % 2 == 0;
+
+                if (isWinIteration) {
+                    if (isLoss && code - 1 == plies - 1)
+                        return plies + 1;
+                } else if (isLoss || code < 1 || code > plies) {
+                    allLose = false;
+                    break;
+                } else if (code - 1 == plies - 1) {
+                    reachesPlies = true;
+                }
+            }
+
+            return isWinIteration == false && allLose && reachesPlies ? plies + 1 : UNKNOWN;
+        }
+
+        private boolean setUp(final int index) {
+            final int[] squares = this.squares;
+            this.colorOrdinal = this.material.decode(index, squares);
+
+            final int whiteKing = squares[Material.WHITE_KING];
+            final int blackKing = squares[Material.BLACK_KING];
+            long occupancy = BitBoards.getSquareBit(whiteKing);
+
+            if ((Attacks.getKingAttacks(whiteKing) & BitBoards.getSquareBit(blackKing)) != 0 || whiteKing == blackKing)
+                return false;
+
+            occupancy |= BitBoards.getSquareBit(blackKing);
+
+            for (int i = 0; i < this.pieceCount; i++) {
+                final long bit = BitBoards.getSquareBit(squares[Material.FIRST_PIECE + i]);
+
+                if ((occupancy & bit) != 0
+                        || (BitBoards.getTypeOrdinal(this.material.getPieceCode(i)) == PAWN && (bit & BACK_RANKS) != 0))
+                    return false;
+
+                occupancy |= bit;
+            }
+
+            this.bitBoards = BitBoards.of(squares, this.pieceCodes, Material.FIRST_PIECE + this.pieceCount);
+
+            if (Attacks.isSquareAttacked(this.bitBoards, this.colorOrdinal == 0 ? blackKing : whiteKing, this.colorOrdinal))
+                return false;
+
+            this.moves.clear();
+            MoveGenerator.generateLegalMoves(this.bitBoards, this.colorOrdinal, 0, -1, this.moves);
+
+            return true;
+        }
+
+        private boolean isInCheck() {
+            final int king = this.squares[this.colorOrdinal == 0 ? Material.WHITE_KING : Material.BLACK_KING];
+
+            return Attacks.isSquareAttacked(this.bitBoards, king, this.colorOrdinal ^ 1);
+        }
+
+        private int getSuccessorCode(final int move) {
+            final int source = EncodedMove.getSource(move);
+            final int destination = EncodedMove.getDestination(move);
+            final int[] squares = this.squares;
+            final int[] successorSquares = this.successorSquares;
+            final int[] successorCodes = this.successorCodes;
+            int successorCount = 0;
+            long signature = 0;
+
+            successorSquares[Material.WHITE_KING] = squares[Material.WHITE_KING] == source
+                    ? destination
+                    : squares[Material.WHITE_KING];
+            successorSquares[Material.BLACK_KING] = squares[Material.BLACK_KING] == source
+                    ? destination
+                    : squares[Material.BLACK_KING];
+
+            for (int i = 0; i < this.pieceCount; i++) {
+                final int square = squares[Material.FIRST_PIECE + i];
+                int pieceCode = this.material.getPieceCode(i);
+
+                if (square == destination)
+                    continue;
+
+                if (square == source && EncodedMove.isPromotion(move))
+                    pieceCode = BitBoards.getPieceCode(this.colorOrdinal, EncodedMove.getPromotionTypeOrdinal(move));
+
+                successorCodes[successorCount] = pieceCode;
+                successorSquares[Material.FIRST_PIECE + successorCount] = square == source ? destination : square;
+                signature += Material.getSignature(pieceCode, 1);
+                successorCount++;
+            }
+
+            final Target target = targets.get(signature);
+            final Material material = target.table.material;
+            int successorColor = this.colorOrdinal ^ 1;
+
+            if (target.flipped) {
+                final int whiteKing = successorSquares[Material.WHITE_KING];
+
+                successorSquares[Material.WHITE_KING] = successorSquares[Material.BLACK_KING] ^ 56;
+                successorSquares[Material.BLACK_KING] = whiteKing ^ 56;
+
+                for (int i = 0; i < successorCount; i++) {
+                    successorCodes[i] = Material.flipColor(successorCodes[i]);
+                    successorSquares[Material.FIRST_PIECE + i] ^= 56;
+                }
+
+                successorColor ^= 1;
+            }
+
+            arrange(material, successorCodes, successorSquares, successorCount, this.orderedSquares);
+
+            return target.table.codes[(int) material.getIndex(successorColor, this.orderedSquares)] & 0xFF;
+        }
+    }
+
+    static void arrange(
+            final Material material,
+            final int[] pieceCodes,
+            final int[] squares,
+            final int count,
+            final int[] orderedSquares) {
+
+        int used = 0;
+
+        orderedSquares[Material.WHITE_KING] = squares[Material.WHITE_KING];
+        orderedSquares[Material.BLACK_KING] = squares[Material.BLACK_KING];
+
+        for (int i = 0; i < count; i++) {
+            final int pieceCode = material.getPieceCode(i);
+
+            for (int j = 0; j < count; j++) {
+                if ((used & (1 << j)) == 0 && pieceCodes[j] == pieceCode) {
+                    used |= 1 << j;
+                    orderedSquares[Material.FIRST_PIECE + i] = squares[Material.FIRST_PIECE + j];
+                    break;
+                }
+            }
+        }
+    }
+
+    public static void main(final String[] args) throws IOException {
+        int threads = Runtime.getRuntime().availableProcessors();
+        Path directory = Paths.get("tablebases");
+        final List<Material> materials = new ArrayList<>();
+
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals("-threads"))
+                threads = Integer.parseInt(args[++i]);
+            else if (args[i].equals("-out"))
+                directory = Paths.get(args[++i]);
+            else
+                materials.add(Material.parse(args[i]));
+        }
+
+        if (materials.isEmpty())
+            for (final String name : new String[] { "KQK", "KRK", "KPK", "KBNK" })
+                materials.add(Material.parse(name));
+
+        final TablebaseGenerator generator = new TablebaseGenerator(threads);
+
+        for (final Material material : materials)
+            for (final GenerationResult result : generator.generate(material, directory))
+                System.out.println(result);
+    }
+}
@@ -9,15 +9,18 @@ import java.awt.event.MouseEvent;
 import java.awt.event.MouseListener;
 import java.awt.image.BufferedImage;
 import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
 
 import javax.imageio.ImageIO;
 import javax.swing.ImageIcon;
+import javax.swing.JFileChooser;
 import javax.swing.JFrame;
 import javax.swing.JLabel;
 import javax.swing.JMenu;
 import javax.swing.JMenuBar;
 import javax.swing.JMenuItem;
+import javax.swing.JOptionPane;
 import javax.swing.JPanel;
 import javax.swing.SwingUtilities;
 
@@ -30,6 +33,8 @@ import engine.board.Position.File;
 import engine.board.Position.Rank;
 import engine.board.Tile;
 import engine.board.Move.MoveFactory;
+import engine.pgn.PgnGame;
+import engine.pgn.PgnReader;
 import engine.pieces.Piece;
 
 public class Window {
@@ -64,7 +69,7 @@ public class Window {
         this.gameFrame.setVisible(true);
     }
 
-    private static JMenuBar createMenuBar() {
+    private JMenuBar createMenuBar() {
         final JMenuBar menuBar = new JMenuBar();
 
         menuBar.add(createFileMenu());
@@ -73,13 +78,16 @@ public class Window {
 
     }
 
-    private static JMenu createFileMenu() {
+    private JMenu createFileMenu() {
         final JMenu menuBar = new JMenu("File");
 
         final JMenuItem loadPGN = new JMenuItem("Load PGN File");
 
         loadPGN.addActionListener(e -> {
-            System.out.println("load pgn");
+            final JFileChooser chooser = new JFileChooser();
+
+            if (chooser.showOpenDialog(this.gameFrame) == JFileChooser.APPROVE_OPTION)
+                loadPGN(chooser.getSelectedFile().toPath());
         });
 
         final JMenuItem exiItem = new JMenuItem("Exit");
@@ -94,6 +102,44 @@ public class Window {
         return menuBar;
     }
 
+    private void loadPGN(final Path path) {
+        final Thread loader = new Thread(() -> {
+            try (PgnReader reader = new PgnReader(path)) {
+                final PgnGame game = reader.next();
+
+                if (game == null) {
+                    showLoadError("No game found in " + path.getFileName());
+                    return;
+                }
+
+                SwingUtilities.invokeLater(new Runnable() {
+                    @Override
+                    public void run() {
+                        gameBoard = game.getBoard();
+                        sourceTile = null;
+                        destinationTile = null;
+                        humanMovedPiece = null;
+                        boardPanel.drawBoard(gameBoard);
+                    }
+                });
+            } catch (IOException | RuntimeException e) {
+                showLoadError("Could not load " + path.getFileName() + ": " + e.getMessage());
+            }
+        }, "pgn-loader");
+
+        loader.setDaemon(true);
+        loader.start();
+    }
+
+    private void showLoadError(final String message) {
+        SwingUtilities.invokeLater(new Runnable() {
+            @Override
+            public void run() {
+                JOptionPane.showMessageDialog(gameFrame, message, "Load PGN File", JOptionPane.ERROR_MESSAGE);
+            }
+        });
+    }
+
     private class BoardPanel extends JPanel {
         final ArrayList<TilePanel> boardTiles;
 
@@ -104,7 +150,7 @@ public class Window {
 
             for (int rankOrdinal = Rank.EIGHTH.ordinal(); rankOrdinal >= Rank.FIRST.ordinal(); rankOrdinal--)
                 for (int fileOrdinal = File.A.ordinal(); fileOrdinal <= File.H.ordinal(); fileOrdinal++) {
-                    final Position tilePosition = new Position(fileOrdinal, rankOrdinal);
+                    final Position tilePosition = Position.of(fileOrdinal, rankOrdinal);
                     final TilePanel tilePanel = new TilePanel(this, tilePosition);
                     this.boardTiles.add(tilePanel);
                     this.add(tilePanel);